@@ -0,0 +1,151 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import dev.dexuby.easyconfig.benchmarks.fixture.AccessFixtures;
+import dev.dexuby.easyconfig.core.binding.ConfigurationBinder;
+import dev.dexuby.easyconfig.core.binding.FieldAccessor;
+import dev.dexuby.easyconfig.core.binding.FieldAccessors;
+import dev.dexuby.easyconfig.core.common.Holder;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares plain core reflection against the cached field accessors, both for a plain field and for a {@link Holder}
+ * field which is how configuration values get bound. Fields without a generated binder use the reflective accessor,
+ * the binder benchmarks use the accessors a generated binder registers: direct field access for the public field and
+ * <code>static final</code> method handles for the private one.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+
+    public static String plainValue = "value";
+    public static final Holder<String> HOLDER_VALUE = Holder.of("value");
+
+    private Field plainField;
+    private Field holderField;
+    private FieldAccessor plainAccessor;
+    private FieldAccessor holderAccessor;
+    private FieldAccessor binderAccessor;
+    private FieldAccessor binderHandleAccessor;
+    private String nextValue;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+
+        this.plainField = FieldAccessBenchmark.class.getField("plainValue");
+        this.holderField = FieldAccessBenchmark.class.getField("HOLDER_VALUE");
+        this.plainAccessor = FieldAccessors.of(this.plainField);
+        this.holderAccessor = FieldAccessors.of(this.holderField);
+        this.binderAccessor = registerBinderAccessor("publicValue");
+        this.binderHandleAccessor = registerBinderAccessor("privateValue");
+        this.nextValue = "next";
+
+    }
+
+    @Benchmark
+    public Object reflectiveGet() throws IllegalAccessException {
+
+        return this.plainField.get(FieldAccessBenchmark.class);
+
+    }
+
+    @Benchmark
+    public Object accessorGet() throws IllegalAccessException {
+
+        return this.plainAccessor.get(null);
+
+    }
+
+    @Benchmark
+    public void reflectiveSet() throws IllegalAccessException {
+
+        this.plainField.set(FieldAccessBenchmark.class, this.nextValue);
+
+    }
+
+    @Benchmark
+    public void accessorSet() throws IllegalAccessException {
+
+        this.plainAccessor.set(null, this.nextValue);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public void reflectiveHolderSet() throws IllegalAccessException {
+
+        ((Holder<String>) this.holderField.get(FieldAccessBenchmark.class)).set(this.nextValue);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public void accessorHolderSet() throws IllegalAccessException {
+
+        ((Holder<String>) this.holderAccessor.get(null)).set(this.nextValue);
+
+    }
+
+    @Benchmark
+    public Object binderGet() throws IllegalAccessException {
+
+        return this.binderAccessor.get(null);
+
+    }
+
+    @Benchmark
+    public void binderSet() throws IllegalAccessException {
+
+        this.binderAccessor.set(null, this.nextValue);
+
+    }
+
+    @Benchmark
+    public Object binderHandleGet() throws IllegalAccessException {
+
+        return this.binderHandleAccessor.get(null);
+
+    }
+
+    @Benchmark
+    public void binderHandleSet() throws IllegalAccessException {
+
+        this.binderHandleAccessor.set(null, this.nextValue);
+
+    }
+
+    /**
+     * Registers the accessor of the generated binder like the resolver does and returns the accessor that is used for
+     * the field from now on.
+     *
+     * @param fieldName The name of the field of {@link AccessFixtures}.
+     * @return The accessor.
+     */
+
+    private static FieldAccessor registerBinderAccessor(final String fieldName) throws ReflectiveOperationException {
+
+        final ConfigurationBinder configurationBinder = (ConfigurationBinder) Class.forName(ConfigurationBinder.getBinderName(AccessFixtures.class))
+                .getConstructor().newInstance();
+        for (final ConfigurationBinder.BoundField boundField : configurationBinder.getFields()) {
+            if (!boundField.getName().equals(fieldName))
+                continue;
+            if (boundField.getAccessor() == null)
+                throw new IllegalStateException("Generated binder has no accessor for " + fieldName + ".");
+            final FieldAccessor accessor = FieldAccessors.register(AccessFixtures.class.getDeclaredField(fieldName), boundField.getAccessor());
+            if (accessor != boundField.getAccessor())
+                throw new IllegalStateException("Field " + fieldName + " already has a reflective accessor.");
+            return accessor;
+        }
+
+        throw new IllegalStateException("Generated binder has no field " + fieldName + ".");
+
+    }
+
+}
@@ -0,0 +1,154 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import com.typesafe.config.*;
+import dev.dexuby.easyconfig.benchmarks.fixture.HandlerFixtures;
+import dev.dexuby.easyconfig.core.serialization.SerializerRegistry;
+import dev.dexuby.easyconfig.core.serialization.handler.ArrayGenericTypeHandler;
+import dev.dexuby.easyconfig.core.serialization.handler.CollectionGenericTypeHandler;
+import dev.dexuby.easyconfig.core.serialization.handler.GenericTypeHandler;
+import dev.dexuby.easyconfig.core.serialization.handler.MapGenericTypeHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes large arrays, collections and maps through the default generic type handlers.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GenericTypeHandlerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Config config;
+    private ConfigOrigin origin;
+    private GenericTypeHandler arrayHandler;
+    private GenericTypeHandler intArrayHandler;
+    private GenericTypeHandler collectionHandler;
+    private GenericTypeHandler mapHandler;
+    private GenericTypeHandler objectMapHandler;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+
+        final List<String> list = new ArrayList<>(this.size);
+        final List<Integer> ints = new ArrayList<>(this.size);
+        final List<Map<String, Object>> entries = new ArrayList<>(this.size);
+        final Map<String, Object> objectEntries = new HashMap<>();
+        for (int i = 0; i < this.size; i++) {
+            list.add("element-" + i);
+            ints.add(i * 31);
+            final Map<String, Object> entry = new HashMap<>();
+            entry.put("key", "key-" + i);
+            entry.put("value", i);
+            entries.add(entry);
+            objectEntries.put("key-" + i, i);
+        }
+        this.config = ConfigFactory.empty()
+                .withValue("array", ConfigValueFactory.fromIterable(list))
+                .withValue("int-array", ConfigValueFactory.fromIterable(ints))
+                .withValue("list", ConfigValueFactory.fromIterable(list))
+                .withValue("map", ConfigValueFactory.fromIterable(entries))
+                .withValue("object-map", ConfigValueFactory.fromMap(objectEntries));
+        this.origin = ConfigOriginFactory.newSimple().withComments(Collections.singletonList("Benchmark value."));
+
+        final SerializerRegistry serializerRegistry = new SerializerRegistry();
+        this.arrayHandler = new ArrayGenericTypeHandler(serializerRegistry, HandlerFixtures.class.getField("ARRAY"), String[].class, HandlerFixtures.class);
+        this.intArrayHandler = new ArrayGenericTypeHandler(serializerRegistry, HandlerFixtures.class.getField("INT_ARRAY"), int[].class, HandlerFixtures.class);
+        this.collectionHandler = new CollectionGenericTypeHandler(serializerRegistry, HandlerFixtures.class.getField("LIST"), List.class, HandlerFixtures.class);
+        this.mapHandler = new MapGenericTypeHandler(serializerRegistry, HandlerFixtures.class.getField("MAP"), Map.class, HandlerFixtures.class);
+        this.objectMapHandler = new MapGenericTypeHandler(serializerRegistry, HandlerFixtures.class.getField("OBJECT_MAP"), Map.class, HandlerFixtures.class);
+
+        // Fill the fields so the write benchmarks have data.
+        this.arrayHandler.readAndSet(this.config, "array");
+        this.intArrayHandler.readAndSet(this.config, "int-array");
+        this.collectionHandler.readAndSet(this.config, "list");
+        this.mapHandler.readAndSet(this.config, "map");
+        this.objectMapHandler.readAndSet(this.config, "object-map");
+
+    }
+
+    @Benchmark
+    public Object arrayRead() throws ReflectiveOperationException {
+
+        this.arrayHandler.readAndSet(this.config, "array");
+        this.intArrayHandler.readAndSet(this.config, "int-array");
+        return HandlerFixtures.ARRAY;
+
+    }
+
+    @Benchmark
+    public ConfigValue arrayWrite() throws IllegalAccessException {
+
+        return this.arrayHandler.toConfigValue(this.origin);
+
+    }
+
+    @Benchmark
+    public Object intArrayRead() throws ReflectiveOperationException {
+
+        this.intArrayHandler.readAndSet(this.config, "int-array");
+        return HandlerFixtures.INT_ARRAY;
+
+    }
+
+    @Benchmark
+    public ConfigValue intArrayWrite() throws IllegalAccessException {
+
+        return this.intArrayHandler.toConfigValue(this.origin);
+
+    }
+
+    @Benchmark
+    public Object collectionRead() throws ReflectiveOperationException {
+
+        this.collectionHandler.readAndSet(this.config, "list");
+        return HandlerFixtures.LIST.get();
+
+    }
+
+    @Benchmark
+    public ConfigValue collectionWrite() throws IllegalAccessException {
+
+        return this.collectionHandler.toConfigValue(this.origin);
+
+    }
+
+    @Benchmark
+    public Object mapRead() throws ReflectiveOperationException {
+
+        this.mapHandler.readAndSet(this.config, "map");
+        return HandlerFixtures.MAP.get();
+
+    }
+
+    @Benchmark
+    public ConfigValue mapWrite() throws IllegalAccessException {
+
+        return this.mapHandler.toConfigValue(this.origin);
+
+    }
+
+    @Benchmark
+    public Object objectMapRead() throws ReflectiveOperationException {
+
+        this.objectMapHandler.readAndSet(this.config, "object-map");
+        return HandlerFixtures.OBJECT_MAP.get();
+
+    }
+
+    @Benchmark
+    public ConfigValue objectMapWrite() throws IllegalAccessException {
+
+        return this.objectMapHandler.toConfigValue(this.origin);
+
+    }
+
+}
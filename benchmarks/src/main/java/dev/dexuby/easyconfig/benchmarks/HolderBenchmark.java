@@ -0,0 +1,68 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import dev.dexuby.easyconfig.core.common.ConcurrentHolder;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path of the holder types, both for set values and for values falling back to their default.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolderBenchmark {
+
+    private Holder<Integer> holder;
+    private Holder<Integer> defaultHolder;
+    private ConcurrentHolder<Integer> concurrentHolder;
+    private IntHolder intHolder;
+
+    @Setup
+    public void setup() {
+
+        this.holder = Holder.of(1);
+        this.holder.set(2);
+        this.defaultHolder = Holder.of(1);
+        this.concurrentHolder = ConcurrentHolder.of(1);
+        this.concurrentHolder.set(2);
+        this.intHolder = IntHolder.of(1);
+        this.intHolder.set(2);
+
+    }
+
+    @Benchmark
+    public Integer holderGet() {
+
+        return this.holder.get();
+
+    }
+
+    @Benchmark
+    public Integer holderGetDefault() {
+
+        return this.defaultHolder.get();
+
+    }
+
+    @Benchmark
+    public Integer concurrentHolderGet() {
+
+        return this.concurrentHolder.get();
+
+    }
+
+    @Benchmark
+    public int intHolderGet() {
+
+        return this.intHolder.get();
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import com.typesafe.config.Config;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyreflect.EasyReflect;
+
+import java.io.File;
+
+/**
+ * Resolver that serves every configuration from an in-memory config and never touches the file system, used to
+ * measure the binding path in isolation.
+ */
+
+final class InMemoryConfigurationResolver extends ConfigurationResolver {
+
+    private volatile Config config;
+
+    InMemoryConfigurationResolver(@NotNull final EasyReflect easyReflect, @NotNull final Config config) {
+
+        super(easyReflect);
+        this.config = config;
+
+    }
+
+    void setConfig(@NotNull final Config config) {
+
+        this.config = config;
+
+    }
+
+    @Override
+    public Config loadConfigFromFile(@NotNull final File file) {
+
+        return this.config;
+
+    }
+
+    @Override
+    public void saveConfigToFile(@NotNull final Config config, @NotNull final File file) {
+
+    }
+
+    @Override
+    public void saveDefaultConfiguration(@NotNull final File file, final Configuration configuration) {
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import dev.dexuby.easyconfig.core.serialization.impl.InstantSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstantSerializerBenchmark {
+
+    private Instant instant;
+    private ConfigValue configValue;
+
+    @Setup
+    public void setup() {
+
+        this.instant = Instant.ofEpochMilli(1693051486576L);
+        this.configValue = ConfigValueFactory.fromAnyRef(1693051486576L);
+
+    }
+
+    @Benchmark
+    public ConfigValue serialize() {
+
+        return InstantSerializer.getInstance().serialize(this.instant);
+
+    }
+
+    @Benchmark
+    public Instant deserialize() {
+
+        return InstantSerializer.getInstance().deserialize(this.configValue);
+
+    }
+
+}
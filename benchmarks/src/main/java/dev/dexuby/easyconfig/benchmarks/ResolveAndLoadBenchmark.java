@@ -0,0 +1,139 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.dexuby.easyconfig.benchmarks.fixture.LoadFixtures;
+import dev.dexuby.easyconfig.core.ConfigurationLoadResult;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Loads N configuration classes with M fields each, the classes are generated for every trial (see
+ * {@link LoadFixtures}). The in-memory benchmarks measure the binding path only, the disk benchmark additionally
+ * includes the file check and parsing.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolveAndLoadBenchmark {
+
+    @Param({"1", "8"})
+    public int classes;
+
+    @Param({"16", "128"})
+    public int fields;
+
+    private URLClassLoader classLoader;
+    private EasyReflect easyReflect;
+    private List<Class<?>> types;
+    private Config[] generations;
+    private int generation;
+    private InMemoryConfigurationResolver resolver;
+
+    private Path directory;
+    private String previousUserDir;
+    private ConfigurationResolver diskResolver;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ClassNotFoundException {
+
+        this.directory = Files.createTempDirectory("easy-config-benchmark");
+        this.classLoader = LoadFixtures.compile(this.classes, this.fields, this.directory);
+        this.easyReflect = EasyReflect.builder()
+                .classLoader(this.classLoader)
+                .resolvePackage(LoadFixtures.PACKAGE)
+                .build();
+        this.types = new ArrayList<>(this.classes);
+        for (int i = 0; i < this.classes; i++)
+            this.types.add(Class.forName(LoadFixtures.className(i), true, this.classLoader));
+        this.generations = new Config[]{
+                ConfigFactory.parseString(LoadFixtures.render(this.fields, 0)),
+                ConfigFactory.parseString(LoadFixtures.render(this.fields, 1))
+        };
+        this.resolver = new InMemoryConfigurationResolver(this.easyReflect, this.generations[0]);
+        this.types.forEach(this.resolver::load);
+
+        // Configuration files are resolved relative to the working directory.
+        this.previousUserDir = System.getProperty("user.dir");
+        System.setProperty("user.dir", this.directory.toString());
+        Files.createDirectories(this.directory.resolve("benchmark"));
+        for (int i = 0; i < this.classes; i++)
+            Files.write(this.directory.resolve("benchmark").resolve("config-" + i + ".conf"), LoadFixtures.render(this.fields, 0).getBytes());
+        this.diskResolver = new ConfigurationResolver(this.easyReflect);
+        this.types.forEach(this.diskResolver::load);
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        System.setProperty("user.dir", this.previousUserDir);
+        this.classLoader.close();
+        try (final Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+
+    }
+
+    @Benchmark
+    public void coldBind(final Blackhole blackhole) {
+
+        // New resolver, includes creating the binding plans.
+        final InMemoryConfigurationResolver coldResolver = new InMemoryConfigurationResolver(this.easyReflect, this.generations[0]);
+        for (final Class<?> type : this.types)
+            blackhole.consume(coldResolver.load(type));
+
+    }
+
+    @Benchmark
+    public void reloadChanged(final Blackhole blackhole) {
+
+        this.generation ^= 1;
+        this.resolver.setConfig(this.generations[this.generation]);
+        for (final Class<?> type : this.types)
+            blackhole.consume(this.resolver.load(type));
+
+    }
+
+    @Benchmark
+    public void reloadUnchanged(final Blackhole blackhole) {
+
+        this.resolver.setConfig(this.generations[0]);
+        for (final Class<?> type : this.types)
+            blackhole.consume(this.resolver.load(type));
+
+    }
+
+    @Benchmark
+    public ConfigurationLoadResult resolveAndLoadAll() {
+
+        // Includes the classpath scan of the generated classes.
+        return this.resolver.resolveAndLoad(Runnable::run);
+
+    }
+
+    @Benchmark
+    public void loadFromDisk(final Blackhole blackhole) {
+
+        for (final Class<?> type : this.types)
+            blackhole.consume(this.diskResolver.load(type));
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package dev.dexuby.easyconfig.benchmarks;
+
+import com.typesafe.config.*;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders and saves a configuration with N commented values through {@link ConfigurationResolver#saveConfigToFile},
+ * once with unchanged content that is only compared against the file and once with alternating content that gets
+ * written to a temporary file and moved over the target on every invocation.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SaveConfigBenchmark {
+
+    @Param({"100", "10000"})
+    public int values;
+
+    private ConfigurationResolver resolver;
+    private Config config;
+    private Config changedConfig;
+    private File file;
+    private File changedFile;
+    private boolean changed;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+
+        this.resolver = new ConfigurationResolver(EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(this.getClass().getPackage().getName())
+                .build());
+        Config config = ConfigFactory.empty();
+        for (int i = 0; i < this.values; i++) {
+            final ConfigOrigin origin = ConfigOriginFactory.newSimple().withComments(Collections.singletonList("Value " + i + "."));
+            config = config.withValue("section-" + (i % 16) + ".value-" + i, ConfigValueFactory.fromAnyRef("value-" + i).withOrigin(origin));
+        }
+        this.config = config;
+        // Differs in a single value so both configs render to the same size.
+        this.changedConfig = config.withValue("section-0.value-0", ConfigValueFactory.fromAnyRef("value-x"));
+        this.file = Files.createTempFile("easy-config-benchmark", ".conf").toFile();
+        this.changedFile = Files.createTempFile("easy-config-benchmark", ".conf").toFile();
+
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(this.file.toPath());
+        Files.deleteIfExists(this.changedFile.toPath());
+
+    }
+
+    /**
+     * Saves the same config on every invocation, after the first one the file already has the rendered content so
+     * this measures the skip path of rendering and comparing without writing.
+     */
+
+    @Benchmark
+    public void saveConfigToFile() {
+
+        this.resolver.saveConfigToFile(this.config, this.file);
+
+    }
+
+    /**
+     * Alternates between two configs so every invocation writes a temporary file and atomically moves it over the
+     * previous one.
+     */
+
+    @Benchmark
+    public void saveChangedConfigToFile() {
+
+        this.changed = !this.changed;
+        this.resolver.saveConfigToFile(this.changed ? this.changedConfig : this.config, this.changedFile);
+
+    }
+
+}
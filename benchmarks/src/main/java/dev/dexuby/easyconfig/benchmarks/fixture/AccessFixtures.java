@@ -0,0 +1,24 @@
+package dev.dexuby.easyconfig.benchmarks.fixture;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+
+/**
+ * Configuration class whose generated binder is measured by the field access benchmark. The binder accesses the public
+ * field directly and the private field through method handles.
+ */
+
+@Configuration(fileName = "access.conf", subPaths = "benchmark")
+public final class AccessFixtures {
+
+    @ConfigurationValue(path = "public-value", description = "Field the binder accesses directly.")
+    public static String publicValue = "value";
+
+    @ConfigurationValue(path = "private-value", description = "Field the binder accesses through method handles.")
+    private static String privateValue = "value";
+
+    private AccessFixtures() {
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.dexuby.easyconfig.benchmarks.fixture;
+
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fields bound by the generic type handler benchmarks.
+ */
+
+public final class HandlerFixtures {
+
+    public static String[] ARRAY = new String[0];
+    public static int[] INT_ARRAY = new int[0];
+    public static final Holder<List<String>> LIST = Holder.of(new ArrayList<>());
+    public static final Holder<Map<String, Integer>> MAP = Holder.of(new HashMap<>());
+    @ConfigurationValue(path = "object-map", description = "Map written as object.", mapEncoding = MapEncoding.OBJECT)
+    public static final Holder<Map<String, Integer>> OBJECT_MAP = Holder.of(new HashMap<>());
+
+    private HandlerFixtures() {
+
+    }
+
+}
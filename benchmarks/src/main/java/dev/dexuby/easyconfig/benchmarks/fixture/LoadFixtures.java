@@ -0,0 +1,160 @@
+package dev.dexuby.easyconfig.benchmarks.fixture;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the configuration classes used by the load benchmarks, so both the number of classes and the number of
+ * fields per class can be benchmark parameters. Fields repeat in groups of 16: 8 strings, 4 ints, 2 lists and 2 maps
+ * stored at the paths <code>value-0</code> to <code>value-(fields - 1)</code>. The classes are compiled with the
+ * system Java compiler, the benchmarks therefore have to run on a JDK.
+ */
+
+public final class LoadFixtures {
+
+    public static final String PACKAGE = "dev.dexuby.easyconfig.benchmarks.generated";
+
+    private LoadFixtures() {
+
+    }
+
+    /**
+     * Compiles the fixture classes <code>Config0</code> to <code>Config(classes - 1)</code> into the provided
+     * directory. Every class is stored in the file <code>benchmark/config-(index).conf</code>.
+     *
+     * @param classes   The number of classes.
+     * @param fields    The number of fields of every class.
+     * @param directory The output directory.
+     * @return A class loader that loads the compiled classes.
+     * @throws IOException If the sources couldn't be written.
+     */
+
+    @NotNull
+    public static URLClassLoader compile(final int classes, final int fields, @NotNull final Path directory) throws IOException {
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null)
+            throw new IllegalStateException("The load benchmarks generate their fixtures and have to run on a JDK.");
+
+        final Path sourceDirectory = Files.createDirectories(directory.resolve("sources").resolve(PACKAGE.replace('.', '/')));
+        final Path classDirectory = Files.createDirectories(directory.resolve("classes"));
+        final List<String> arguments = new ArrayList<>();
+        arguments.add("-proc:none");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(classDirectory.toString());
+        for (int i = 0; i < classes; i++) {
+            final Path source = sourceDirectory.resolve("Config" + i + ".java");
+            Files.write(source, source(i, fields).getBytes(StandardCharsets.UTF_8));
+            arguments.add(source.toString());
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (compiler.run(null, output, output, arguments.toArray(new String[0])) != 0)
+            throw new IllegalStateException("Failed to compile the load fixtures:\n" + new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+        return new URLClassLoader(new URL[]{classDirectory.toUri().toURL()}, LoadFixtures.class.getClassLoader());
+
+    }
+
+    /**
+     * Returns the fully qualified name of a fixture class.
+     *
+     * @param index The index of the class.
+     * @return The class name.
+     */
+
+    @NotNull
+    public static String className(final int index) {
+
+        return PACKAGE + ".Config" + index;
+
+    }
+
+    /**
+     * Renders the content of a configuration file of the fixture classes.
+     *
+     * @param fields     The number of fields of the classes.
+     * @param generation A number that is included in every value so different generations differ in every path.
+     * @return The rendered configuration.
+     */
+
+    @NotNull
+    public static String render(final int fields, final int generation) {
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields; i++) {
+            builder.append("value-").append(i).append(" = ");
+            final int kind = i % 16;
+            if (kind < 8) {
+                builder.append("\"value-").append(i).append('-').append(generation).append('"');
+            } else if (kind < 12) {
+                builder.append(i * 1000 + generation);
+            } else if (kind < 14) {
+                builder.append("[");
+                for (int j = 0; j < 32; j++)
+                    builder.append(j == 0 ? "" : ", ").append("\"element-").append(j).append('-').append(generation).append('"');
+                builder.append("]");
+            } else {
+                builder.append("[");
+                for (int j = 0; j < 32; j++)
+                    builder.append(j == 0 ? "" : ", ").append("{ key = \"key-").append(j).append("\", value = ").append(j + generation).append(" }");
+                builder.append("]");
+            }
+            builder.append('\n');
+        }
+
+        return builder.toString();
+
+    }
+
+    @NotNull
+    private static String source(final int index, final int fields) {
+
+        final StringBuilder builder = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import dev.dexuby.easyconfig.core.Configuration;\n")
+                .append("import dev.dexuby.easyconfig.core.ConfigurationValue;\n")
+                .append("import dev.dexuby.easyconfig.core.common.Holder;\n")
+                .append("import dev.dexuby.easyconfig.core.common.IntHolder;\n\n")
+                .append("import java.util.*;\n\n")
+                .append("@Configuration(fileName = \"config-").append(index).append(".conf\", subPaths = \"benchmark\")\n")
+                .append("public final class Config").append(index).append(" {\n");
+        for (int i = 0; i < fields; i++) {
+            final int kind = i % 16;
+            final String type;
+            final String value;
+            if (kind < 8) {
+                type = "Holder<String>";
+                value = "Holder.of(\"default-" + i + "\")";
+            } else if (kind < 12) {
+                type = "IntHolder";
+                value = "IntHolder.of(" + i + ")";
+            } else if (kind < 14) {
+                type = "Holder<List<String>>";
+                value = "Holder.of(new ArrayList<>())";
+            } else {
+                type = "Holder<Map<String, Integer>>";
+                value = "Holder.of(new HashMap<>())";
+            }
+            builder.append("\n    @ConfigurationValue(path = \"value-").append(i).append("\", description = \"Value ").append(i).append(".\")\n")
+                    .append("    public static final ").append(type).append(" VALUE_").append(i).append(" = ").append(value).append(";\n");
+        }
+
+        return builder.append("\n}\n").toString();
+
+    }
+
+}
@@ -13,4 +13,35 @@ public @interface Configuration {
 
     String[] subPaths() default {};
 
+    /**
+     * Whether all {@link dev.dexuby.easyconfig.core.common.Holder} values of the configuration get deserialized on the
+     * first access instead of while loading.
+     */
+
+    boolean lazy() default false;
+
+    /**
+     * Whether all values of the configuration are decoded into a new immutable {@link ConfigurationSnapshot} first that
+     * then gets published with a single reference swap, see {@link ConfigurationResolver#getSnapshot(Class)}. Readers
+     * of the snapshot never observe a partially applied reload, values are decoded eagerly even if {@link #lazy()} is
+     * set.
+     */
+
+    boolean snapshot() default false;
+
+    /**
+     * Prefix of the system properties and environment variables that override values of the configuration, for example
+     * <code>database</code> for <code>-Ddatabase.host=...</code> and <code>DATABASE_HOST=...</code>. Overrides take
+     * precedence over the configuration file and are never written to it. Empty if values can't be overridden.
+     */
+
+    String overridePrefix() default "";
+
+    /**
+     * Whether values missing in the configuration file fall back to the classpath resource of the configuration before
+     * falling back to the field values, for example values added by a newer version of the resource.
+     */
+
+    boolean resourceFallback() default false;
+
 }
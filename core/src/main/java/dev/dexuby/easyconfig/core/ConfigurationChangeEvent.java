@@ -0,0 +1,176 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.binding.FieldBinding;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.Subscribable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The values of a configuration that changed in one reload.
+ */
+
+public final class ConfigurationChangeEvent {
+
+    private final Class<?> type;
+    private final List<Change> changes;
+
+    ConfigurationChangeEvent(@NotNull final Class<?> type, @NotNull final List<Change> changes) {
+
+        this.type = type;
+        this.changes = Collections.unmodifiableList(changes);
+
+    }
+
+    @NotNull
+    public Class<?> getType() {
+
+        return this.type;
+
+    }
+
+    /**
+     * Returns all changed values in the declaration order of their fields.
+     *
+     * @return The changes.
+     */
+
+    @NotNull
+    public List<Change> getChanges() {
+
+        return this.changes;
+
+    }
+
+    /**
+     * Returns the change of the value at the provided path.
+     *
+     * @param path The path of the value.
+     * @return The change or <code>null</code> if the value didn't change.
+     */
+
+    @Nullable
+    public Change getChange(@NotNull final String path) {
+
+        for (final Change change : this.changes) {
+            if (change.getPath().equals(path))
+                return change;
+        }
+
+        return null;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "ConfigurationChangeEvent{type=" + this.type.getName() + ", changes=" + this.changes + "}";
+
+    }
+
+    /**
+     * A single changed value.
+     */
+
+    public static final class Change {
+
+        private final FieldBinding fieldBinding;
+        private final Subscribable<?> holder;
+        private final Object oldValue;
+        private final Object newValue;
+        // Whether the new value is a lazy value that is only computed once it's requested.
+        private final boolean lazy;
+
+        Change(@NotNull final FieldBinding fieldBinding, @Nullable final Subscribable<?> holder,
+               @Nullable final Object oldValue, @Nullable final Object newValue) {
+
+            this.fieldBinding = fieldBinding;
+            this.holder = holder;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.lazy = false;
+
+        }
+
+        /**
+         * Creates the change of a lazy value, the new value is read from the holder once it's requested.
+         */
+
+        Change(@NotNull final FieldBinding fieldBinding, @NotNull final Holder<?> holder, @Nullable final Object oldValue) {
+
+            this.fieldBinding = fieldBinding;
+            this.holder = holder;
+            this.oldValue = oldValue;
+            this.newValue = null;
+            this.lazy = true;
+
+        }
+
+        @NotNull
+        public FieldBinding getFieldBinding() {
+
+            return this.fieldBinding;
+
+        }
+
+        @NotNull
+        public String getPath() {
+
+            return this.fieldBinding.getPath();
+
+        }
+
+        /**
+         * @return The holder of the field, <code>null</code> if the field isn't a holder.
+         */
+
+        @Nullable
+        Subscribable<?> getHolder() {
+
+            return this.holder;
+
+        }
+
+        /**
+         * @return The value before the reload, holders are unwrapped. <code>null</code> for lazy values that haven't
+         * been computed before the reload.
+         */
+
+        @Nullable
+        public Object getOldValue() {
+
+            return this.oldValue;
+
+        }
+
+        /**
+         * Returns the value after the reload, holders are unwrapped. Lazy values are computed on the first call and
+         * reflect the current value of the holder, which may already belong to a later reload.
+         *
+         * @return The new value.
+         */
+
+        @Nullable
+        public Object getNewValue() {
+
+            if (this.lazy) {
+                final Holder<?> holder = (Holder<?>) this.holder;
+                return holder.isPresent() ? holder.get() : null;
+            }
+            return this.newValue;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.getPath() + ": " + this.oldValue + " -> " + (this.lazy ? "<lazy>" : this.newValue);
+
+        }
+
+    }
+
+}
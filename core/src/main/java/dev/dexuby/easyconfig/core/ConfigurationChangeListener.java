@@ -0,0 +1,21 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+/**
+ * Subscriber of a whole configuration class, registered through {@link ConfigurationResolver#subscribe}. All values
+ * that changed in one reload of the configuration are delivered as a single event.
+ */
+
+@FunctionalInterface
+public interface ConfigurationChangeListener {
+
+    /**
+     * Called after a reload changed at least one value of the configuration.
+     *
+     * @param event The changed values.
+     */
+
+    void onChange(@NotNull final ConfigurationChangeEvent event);
+
+}
@@ -0,0 +1,152 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compile-time index of {@link Configuration} and {@link ConfigurationSerializer} classes written by the
+ * <code>easy-config-processor</code>. Resolving classes through the index replaces the classpath scan of
+ * {@link dev.dexuby.easyreflect.EasyReflect}.
+ */
+
+public final class ConfigurationIndex {
+
+    public static final String CONFIGURATIONS_RESOURCE = "META-INF/easy-config/configurations";
+    public static final String SERIALIZERS_RESOURCE = "META-INF/easy-config/serializers";
+
+    private final ClassLoader classLoader;
+    private final Set<String> configurations;
+    private final Set<String> serializers;
+
+    private ConfigurationIndex(@NotNull final ClassLoader classLoader,
+                               @NotNull final Set<String> configurations,
+                               @NotNull final Set<String> serializers) {
+
+        this.classLoader = classLoader;
+        this.configurations = configurations;
+        this.serializers = serializers;
+
+    }
+
+    /**
+     * Resolves all configuration classes of the index.
+     *
+     * @return The configuration classes mapped to their annotation.
+     */
+
+    @NotNull
+    public Map<Class<?>, Configuration> findConfigurations() {
+
+        final Map<Class<?>, Configuration> classes = new HashMap<>();
+        for (final Class<?> type : this.loadClasses(this.configurations)) {
+            final Configuration configuration = type.getAnnotation(Configuration.class);
+            if (configuration != null)
+                classes.put(type, configuration);
+        }
+
+        return classes;
+
+    }
+
+    /**
+     * Resolves all serializer classes of the index.
+     *
+     * @return The serializer classes.
+     */
+
+    @NotNull
+    public Set<Class<?>> findSerializers() {
+
+        return this.loadClasses(this.serializers);
+
+    }
+
+    public Set<String> getConfigurations() {
+
+        return Collections.unmodifiableSet(this.configurations);
+
+    }
+
+    public Set<String> getSerializers() {
+
+        return Collections.unmodifiableSet(this.serializers);
+
+    }
+
+    @NotNull
+    private Set<Class<?>> loadClasses(@NotNull final Set<String> names) {
+
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        for (final String name : names) {
+            try {
+                classes.add(Class.forName(name, false, this.classLoader));
+            } catch (final ClassNotFoundException | LinkageError ex) {
+                Constants.LOGGER.warn("Failed to load indexed class " + name, ex);
+            }
+        }
+
+        return classes;
+
+    }
+
+    /**
+     * Loads the index of all classes in the provided package and its subpackages from every index resource visible
+     * to the provided class loader.
+     *
+     * @param classLoader The class loader.
+     * @param packageName The package, an empty string includes all packages.
+     * @return The loaded index or <code>null</code> if no index resource exists.
+     */
+
+    @Nullable
+    public static ConfigurationIndex load(@NotNull final ClassLoader classLoader, @NotNull final String packageName) {
+
+        try {
+            final Set<String> configurations = readResources(classLoader, CONFIGURATIONS_RESOURCE, packageName);
+            final Set<String> serializers = readResources(classLoader, SERIALIZERS_RESOURCE, packageName);
+            if (configurations == null && serializers == null)
+                return null;
+            return new ConfigurationIndex(classLoader,
+                    configurations == null ? new LinkedHashSet<>() : configurations,
+                    serializers == null ? new LinkedHashSet<>() : serializers);
+        } catch (final IOException ex) {
+            Constants.LOGGER.warn("Failed to read configuration index.", ex);
+            return null;
+        }
+
+    }
+
+    @Nullable
+    private static Set<String> readResources(@NotNull final ClassLoader classLoader,
+                                             @NotNull final String resource,
+                                             @NotNull final String packageName) throws IOException {
+
+        final Enumeration<URL> urls = classLoader.getResources(resource);
+        if (!urls.hasMoreElements())
+            return null;
+
+        final String packagePrefix = packageName.isEmpty() ? "" : packageName + ".";
+        final Set<String> names = new LinkedHashSet<>();
+        while (urls.hasMoreElements()) {
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(urls.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#") && line.startsWith(packagePrefix))
+                        names.add(line);
+                }
+            }
+        }
+
+        return names;
+
+    }
+
+}
@@ -0,0 +1,109 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easyconfig.core.binding.FieldBinding;
+
+import java.io.File;
+
+/**
+ * Receives timings and byte counts of every phase of loading and saving configurations, registered through
+ * {@link ConfigurationResolver#addListener}. All durations are in nanoseconds. Callbacks are invoked on the thread that
+ * executes the phase, which can be an executor thread for parallel loads, so implementations have to be thread-safe and
+ * should return quickly. Exceptions thrown by a listener are logged and otherwise ignored.
+ */
+
+public interface ConfigurationListener {
+
+    /**
+     * Called after the configuration classes have been resolved, either by scanning the classpath or from the index.
+     *
+     * @param nanos          The duration.
+     * @param configurations The number of resolved configuration classes.
+     */
+
+    default void onScan(final long nanos, final int configurations) {
+
+    }
+
+    /**
+     * Called after the existence of a configuration file has been checked and, if it was missing, the default resource
+     * has been extracted.
+     *
+     * @param type    The configuration class.
+     * @param file    The configuration file.
+     * @param nanos   The duration.
+     * @param created <code>true</code> if the file was missing and has been created.
+     */
+
+    default void onFilePrepared(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final boolean created) {
+
+    }
+
+    /**
+     * Called after a configuration file has been parsed.
+     *
+     * @param type  The configuration class.
+     * @param file  The configuration file.
+     * @param nanos The duration.
+     * @param bytes The size of the parsed file.
+     */
+
+    default void onParsed(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final long bytes) {
+
+    }
+
+    /**
+     * Called after a single field has been bound, the handler and serializer of the field are available through the
+     * binding.
+     *
+     * @param fieldBinding The binding of the field.
+     * @param nanos        The duration.
+     * @param updated      <code>false</code> if the value didn't change since the last load and has been skipped.
+     */
+
+    default void onFieldBound(@NotNull final FieldBinding fieldBinding, final long nanos, final boolean updated) {
+
+    }
+
+    /**
+     * Called after a config has been rendered and written by {@link ConfigurationResolver#saveConfigToFile}.
+     *
+     * @param file        The configuration file.
+     * @param renderNanos The duration of rendering the config.
+     * @param writeNanos  The duration of comparing and writing the file.
+     * @param bytes       The number of bytes written, <code>0</code> if the file content didn't change.
+     */
+
+    default void onSaved(@NotNull final File file, final long renderNanos, final long writeNanos, final long bytes) {
+
+    }
+
+    /**
+     * Called after a configuration has been loaded completely, including failed values.
+     *
+     * @param type      The configuration class.
+     * @param file      The configuration file.
+     * @param nanos     The total duration.
+     * @param fields    The number of bound fields.
+     * @param bytesRead The size of the parsed file.
+     * @param saved     <code>true</code> if missing values have been written to the file, see {@link #onSaved}.
+     */
+
+    default void onLoaded(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final int fields,
+                          final long bytesRead, final boolean saved) {
+
+    }
+
+    /**
+     * Called before a configuration gets reloaded through {@link ConfigurationResolver#reload}, for example after its
+     * file changed.
+     *
+     * @param type    The configuration class.
+     * @param trigger The cause of the reload.
+     */
+
+    default void onReload(@NotNull final Class<?> type, @NotNull final String trigger) {
+
+    }
+
+}
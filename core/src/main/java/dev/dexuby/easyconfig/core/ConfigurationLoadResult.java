@@ -0,0 +1,68 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregated result of loading one or more configurations. Classes that failed to load completely and classes with
+ * single failed values are both reported in the failures, a class counts as loaded as soon as its file has been read.
+ */
+
+public final class ConfigurationLoadResult {
+
+    private final Set<Class<?>> loaded = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, List<Throwable>> failures = new ConcurrentHashMap<>();
+
+    void addLoaded(@NotNull final Class<?> type) {
+
+        this.loaded.add(type);
+
+    }
+
+    void addFailure(@NotNull final Class<?> type, @NotNull final Throwable throwable) {
+
+        this.failures.computeIfAbsent(type, key -> Collections.synchronizedList(new ArrayList<>())).add(throwable);
+
+    }
+
+    /**
+     * Returns all configuration classes that have been loaded.
+     *
+     * @return The loaded classes.
+     */
+
+    @NotNull
+    public Set<Class<?>> getLoaded() {
+
+        return Collections.unmodifiableSet(this.loaded);
+
+    }
+
+    /**
+     * Returns the failures of every configuration class that didn't load cleanly.
+     *
+     * @return The failures mapped by configuration class.
+     */
+
+    @NotNull
+    public Map<Class<?>, List<Throwable>> getFailures() {
+
+        return Collections.unmodifiableMap(this.failures);
+
+    }
+
+    /**
+     * Checks if all configurations loaded without any failure.
+     *
+     * @return <code>true</code> if there were no failures, <code>false</code> otherwise.
+     */
+
+    public boolean isSuccessful() {
+
+        return this.failures.isEmpty();
+
+    }
+
+}
@@ -5,27 +5,44 @@ import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
 import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
 import dev.dexuby.easycommon.tuple.Pair;
 import dev.dexuby.easycommon.util.MapUtils;
+import dev.dexuby.easyconfig.core.binding.ConfigurationBinder;
+import dev.dexuby.easyconfig.core.binding.ConfigurationBinding;
+import dev.dexuby.easyconfig.core.binding.FieldAccessor;
+import dev.dexuby.easyconfig.core.binding.FieldAccessors;
+import dev.dexuby.easyconfig.core.binding.FieldBinding;
+import dev.dexuby.easyconfig.core.binding.PrimitiveHolderType;
+import dev.dexuby.easyconfig.core.binding.SharedValues;
 import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.Subscribable;
 import dev.dexuby.easyconfig.core.serialization.ConfigurationSerializable;
+import dev.dexuby.easyconfig.core.serialization.SerializerRegistry;
+import dev.dexuby.easyconfig.core.serialization.codec.ValueCodecs;
 import dev.dexuby.easyconfig.core.serialization.handler.*;
 import dev.dexuby.easyconfig.core.serialization.impl.InstantSerializer;
+import dev.dexuby.easyconfig.core.util.AsyncExecutors;
+import dev.dexuby.easyconfig.core.util.FileManager;
 import dev.dexuby.easyconfig.core.util.ResourceManager;
 import dev.dexuby.easyreflect.EasyReflect;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
+import java.io.UncheckedIOException;
 import java.lang.reflect.*;
 import java.time.Instant;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class ConfigurationResolver {
 
+    // Emits JFR events on Java 11+, null if JFR isn't available.
+    private static final FlightRecorderListener FLIGHT_RECORDER = FlightRecorderListener.create();
+
     // Default generic type handlers.
     private final Map<Predicate<Class<?>>, GenericTypeHandlerFactory> registeredGenericTypeHandlers = MapUtils.newMap(
             Pair.of(Class::isArray, ArrayGenericTypeHandler::new),
@@ -34,9 +51,36 @@ public class ConfigurationResolver {
     );
 
     // Default serializers.
-    private final Map<Class<?>, ConfigurationSerializable<?>> registeredSerializers = MapUtils.newMap(
+    private final SerializerRegistry registeredSerializers = new SerializerRegistry(MapUtils.newMap(
             Pair.of(Instant.class, InstantSerializer.getInstance())
-    );
+    ));
+
+    // Compiled binding plans, one per configuration class.
+    private final Map<Class<?>, ConfigurationBinding> configurationBindings = new ConcurrentHashMap<>();
+
+    // Optional compile-time index replacing the classpath scan.
+    private volatile ConfigurationIndex configurationIndex;
+
+    // Optional cache of parsed configuration files.
+    private volatile ConfigurationSnapshotCache snapshotCache;
+
+    // Optional pool of canonical values used while binding.
+    private volatile ValueInterner valueInterner;
+
+    // Listeners receiving the timings of every load and save phase.
+    private final List<ConfigurationListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Layered sources and the last merged config, per configuration class.
+    private final Map<Class<?>, ConfigurationSources> configurationSources = new ConcurrentHashMap<>();
+
+    // Subscribers notified about changed values, per configuration class.
+    private final Map<Class<?>, List<ConfigurationChangeListener>> changeListeners = new ConcurrentHashMap<>();
+
+    // Executor change notifications get delivered on.
+    private volatile Executor changeExecutor = Runnable::run;
+
+    // Configuration classes found by the last resolve.
+    private volatile Map<Class<?>, Configuration> resolvedConfigurations = Collections.emptyMap();
 
     private final EasyReflect easyReflect;
 
@@ -73,36 +117,82 @@ public class ConfigurationResolver {
 
     public void resolveSerializers() {
 
+        final ConfigurationIndex configurationIndex = this.configurationIndex;
+        if (configurationIndex != null) {
+            for (final Class<?> type : configurationIndex.findSerializers())
+                this.resolveSerializer(type);
+            return;
+        }
+
         final Map<Class<?>, ConfigurationSerializer> classes = this.easyReflect.findAnnotatedClasses(ConfigurationSerializer.class);
-        for (final Map.Entry<Class<?>, ConfigurationSerializer> classEntry : classes.entrySet()) {
-            final Class<?> type = classEntry.getKey();
-            if (!(ConfigurationSerializable.class.isAssignableFrom(type)))
-                continue;
-            final Class<?> targetType = (Class<?>) ((ParameterizedType) type.getGenericInterfaces()[0]).getActualTypeArguments()[0];
+        for (final Class<?> type : classes.keySet())
+            this.resolveSerializer(type);
+
+    }
+
+    /**
+     * Resolves and adds annotated serializers like {@link #resolveSerializers()} on the default executor, see
+     * {@link AsyncExecutors#defaultExecutor()}.
+     *
+     * @return The future completed once all serializers have been registered.
+     */
+
+    @NotNull
+    public CompletableFuture<Void> resolveSerializersAsync() {
+
+        return this.resolveSerializersAsync(AsyncExecutors.defaultExecutor());
+
+    }
+
+    /**
+     * Resolves and adds annotated serializers like {@link #resolveSerializers()} on the provided executor. Configurations
+     * relying on the serializers have to be loaded after the returned future completed.
+     *
+     * @param executor The executor the classpath gets scanned on.
+     * @return The future completed once all serializers have been registered.
+     */
+
+    @NotNull
+    public CompletableFuture<Void> resolveSerializersAsync(@NotNull final Executor executor) {
+
+        return CompletableFuture.runAsync(this::resolveSerializers, executor);
+
+    }
+
+    /**
+     * Creates or obtains the instance of the provided serializer class and registers it.
+     *
+     * @param type The serializer class.
+     */
+
+    private void resolveSerializer(@NotNull final Class<?> type) {
+
+        if (!(ConfigurationSerializable.class.isAssignableFrom(type)))
+            return;
+        final Class<?> targetType = (Class<?>) ((ParameterizedType) type.getGenericInterfaces()[0]).getActualTypeArguments()[0];
+        try {
+            final Constructor<?> constructor = type.getConstructor();
             try {
-                final Constructor<?> constructor = type.getConstructor();
+                // Create new instance and register.
+                final ConfigurationSerializable<?> instance = (ConfigurationSerializable<?>) constructor.newInstance();
+                this.registerSerializer(targetType, instance);
+            } catch (final InvocationTargetException | InstantiationException | IllegalAccessException ex) {
+                Constants.LOGGER.error("Failed to create new instance of serializer class " + type.getName(), ex);
+            }
+        } catch (final NoSuchMethodException ex) {
+            // No public zero-args constructor, check if it's a singleton.
+            for (final Method method : type.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()))
+                    continue;
+                if (!method.getReturnType().equals(type))
+                    continue;
                 try {
-                    // Create new instance and register.
-                    final ConfigurationSerializable<?> instance = (ConfigurationSerializable<?>) constructor.newInstance();
+                    // Try to obtain the singleton instance from the static getter.
+                    final ConfigurationSerializable<?> instance = (ConfigurationSerializable<?>) method.invoke(null);
                     this.registerSerializer(targetType, instance);
-                } catch (final InvocationTargetException | InstantiationException | IllegalAccessException ex) {
-                    Constants.LOGGER.error("Failed to create new instance of serializer class " + type.getName(), ex);
-                }
-            } catch (final NoSuchMethodException ex) {
-                // No public zero-args constructor, check if it's a singleton.
-                for (final Method method : type.getMethods()) {
-                    if (!Modifier.isStatic(method.getModifiers()))
-                        continue;
-                    if (!method.getReturnType().equals(type))
-                        continue;
-                    try {
-                        // Try to obtain the singleton instance from the static getter.
-                        final ConfigurationSerializable<?> instance = (ConfigurationSerializable<?>) method.invoke(null);
-                        this.registerSerializer(targetType, instance);
-                        break;
-                    } catch (final IllegalAccessException | InvocationTargetException innerException) {
-                        Constants.LOGGER.error("Failed to obtain singleton instance of serializer class: " + type.getName(), innerException);
-                    }
+                    break;
+                } catch (final IllegalAccessException | InvocationTargetException innerException) {
+                    Constants.LOGGER.error("Failed to obtain singleton instance of serializer class: " + type.getName(), innerException);
                 }
             }
         }
@@ -113,88 +203,769 @@ public class ConfigurationResolver {
      * Automatically resolves and loads all configurations.
      */
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public void resolveAndLoad() {
 
-        final Map<Class<?>, Configuration> classes = this.easyReflect.findAnnotatedClasses(Configuration.class);
+        this.resolveAndLoad(Runnable::run);
+
+    }
+
+    /**
+     * Automatically resolves all configurations and loads them in parallel on the provided executor. Blocks until
+     * every configuration has been processed.
+     *
+     * @param executor The executor the configurations get loaded on.
+     * @return The aggregated result including the failures of every configuration.
+     */
+
+    @NotNull
+    public ConfigurationLoadResult resolveAndLoad(@NotNull final Executor executor) {
+
+        final ConfigurationLoadResult result = new ConfigurationLoadResult();
+        return this.loadAll(this.resolveConfigurationBindings(result), executor, result).join();
+
+    }
+
+    /**
+     * Resolves and loads all configurations on the default executor without blocking the caller, see
+     * {@link AsyncExecutors#defaultExecutor()}.
+     *
+     * @return The future completed with the aggregated result once every configuration has been processed.
+     */
+
+    @NotNull
+    public CompletableFuture<ConfigurationLoadResult> resolveAndLoadAsync() {
+
+        return this.resolveAndLoadAsync(AsyncExecutors.defaultExecutor());
+
+    }
+
+    /**
+     * Resolves and loads all configurations without blocking the caller. The classpath scan and the creation of the
+     * binding plans run as one task on the provided executor, every configuration file is then read, parsed and bound
+     * in its own task.
+     *
+     * @param executor The executor the configurations get resolved and loaded on.
+     * @return The future completed with the aggregated result once every configuration has been processed.
+     */
+
+    @NotNull
+    public CompletableFuture<ConfigurationLoadResult> resolveAndLoadAsync(@NotNull final Executor executor) {
+
+        final ConfigurationLoadResult result = new ConfigurationLoadResult();
+        return CompletableFuture.supplyAsync(() -> this.resolveConfigurationBindings(result), executor)
+                .thenCompose(configurationBindings -> this.loadAll(configurationBindings, executor, result));
+
+    }
+
+    /**
+     * Resolves all configuration classes and creates their binding plans, instance scoped configurations are skipped.
+     * Classes whose binding plan can't be created are logged, added to the provided result and skipped.
+     *
+     * @param result The result failures get added to.
+     * @return The binding plans of all resolved configurations.
+     */
+
+    @NotNull
+    private List<ConfigurationBinding> resolveConfigurationBindings(@NotNull final ConfigurationLoadResult result) {
+
+        final long scanStart = System.nanoTime();
+        final ConfigurationIndex configurationIndex = this.configurationIndex;
+        final Map<Class<?>, Configuration> classes = configurationIndex != null
+                ? configurationIndex.findConfigurations()
+                : this.easyReflect.findAnnotatedClasses(Configuration.class);
+        if (this.isInstrumented()) {
+            final long scanNanos = System.nanoTime() - scanStart;
+            this.notifyListeners(listener -> listener.onScan(scanNanos, classes.size()));
+        }
+        final Map<Class<?>, Configuration> resolvedConfigurations = new HashMap<>(classes.size());
+        final List<ConfigurationBinding> configurationBindings = new ArrayList<>(classes.size());
         for (final Map.Entry<Class<?>, Configuration> classEntry : classes.entrySet()) {
-            final Class<?> type = classEntry.getKey();
-            final File file = this.getFile(classEntry.getValue());
-            if (!file.exists())
-                this.saveDefaultConfiguration(file, classEntry.getValue());
+            final ConfigurationBinding configurationBinding;
+            try {
+                configurationBinding = this.getConfigurationBinding(classEntry.getKey(), classEntry.getValue());
+            } catch (final RuntimeException ex) {
+                Constants.LOGGER.error("Failed to create binding plan of configuration " + classEntry.getKey().getName(), ex);
+                result.addFailure(classEntry.getKey(), ex);
+                continue;
+            }
+            // Instance scoped configurations are only loaded through #loadInstances.
+            if (configurationBinding.isInstanceScoped())
+                continue;
+            resolvedConfigurations.put(classEntry.getKey(), classEntry.getValue());
+            configurationBindings.add(configurationBinding);
+        }
+        this.resolvedConfigurations = Collections.unmodifiableMap(resolvedConfigurations);
 
-            boolean saveFile = false;
-            Config config = this.loadConfigFromFile(file);
-            final Map<Field, ConfigurationValue> fields = this.easyReflect.findAnnotatedFields(type, ConfigurationValue.class);
-            for (final Map.Entry<Field, ConfigurationValue> fieldEntry : fields.entrySet()) {
-                try {
-                    final Field field = fieldEntry.getKey();
-                    final String path = fieldEntry.getValue().path();
-                    final String description = fieldEntry.getValue().description();
-                    Class<?> fieldType = field.getType();
-                    Object fieldValue = field.get(type);
-                    if (fieldType.isAssignableFrom(Holder.class)) {
-                        // Override with the first generic type from the lockable value.
-                        final ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
-                        final Type actualType = parameterizedType.getActualTypeArguments()[0];
-                        if (actualType instanceof ParameterizedType) {
-                            fieldType = (Class<?>) ((ParameterizedType) actualType).getRawType();
-                        } else {
-                            fieldType = (Class<?>) actualType;
-                        }
-                        // Override field value with holder value.
-                        fieldValue = ((Holder<?>) fieldValue).get();
+        return configurationBindings;
+
+    }
+
+    /**
+     * Loads the provided configurations in parallel on the provided executor.
+     *
+     * @param configurationBindings The binding plans of the configurations.
+     * @param executor              The executor the configurations get loaded on.
+     * @param result                The result failures get added to.
+     * @return The future completed with the provided result once every configuration has been processed.
+     */
+
+    @NotNull
+    private CompletableFuture<ConfigurationLoadResult> loadAll(@NotNull final List<ConfigurationBinding> configurationBindings,
+                                                               @NotNull final Executor executor,
+                                                               @NotNull final ConfigurationLoadResult result) {
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[configurationBindings.size()];
+        for (int i = 0; i < futures.length; i++) {
+            final ConfigurationBinding configurationBinding = configurationBindings.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> this.load(configurationBinding, result), executor);
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(ignored -> result);
+
+    }
+
+    /**
+     * Loads a single configuration class without resolving any other configuration.
+     *
+     * @param type The configuration class.
+     * @return The result including all failures of the configuration.
+     * @throws IllegalArgumentException If the class isn't annotated with {@link Configuration} or is instance scoped.
+     */
+
+    @NotNull
+    public ConfigurationLoadResult load(@NotNull final Class<?> type) throws IllegalArgumentException {
+
+        final Configuration configuration = type.getAnnotation(Configuration.class);
+        if (configuration == null)
+            throw new IllegalArgumentException(type.getName() + " is not annotated with @Configuration.");
+        final ConfigurationLoadResult result = new ConfigurationLoadResult();
+        final ConfigurationBinding configurationBinding;
+        try {
+            configurationBinding = this.getConfigurationBinding(type, configuration);
+        } catch (final RuntimeException ex) {
+            Constants.LOGGER.error("Failed to create binding plan of configuration " + type.getName(), ex);
+            result.addFailure(type, ex);
+            return result;
+        }
+        if (configurationBinding.isInstanceScoped())
+            throw new IllegalArgumentException(type.getName() + " only declares instance fields, use #loadInstances.");
+
+        this.load(configurationBinding, result);
+        return result;
+
+    }
+
+    /**
+     * Reloads a single configuration like {@link #load(Class)} and notifies all listeners about the trigger of the
+     * reload first.
+     *
+     * @param type    The configuration class.
+     * @param trigger The cause of the reload, for example a file change.
+     * @return The result including all failures of the configuration.
+     * @throws IllegalArgumentException If the class isn't annotated with {@link Configuration} or is instance scoped.
+     */
+
+    @NotNull
+    public ConfigurationLoadResult reload(@NotNull final Class<?> type, @NotNull final String trigger) throws IllegalArgumentException {
+
+        if (this.isInstrumented())
+            this.notifyListeners(listener -> listener.onReload(type, trigger));
+
+        return this.load(type);
+
+    }
+
+    /**
+     * Loads a single configuration, every failure gets logged and added to the provided result.
+     *
+     * @param configurationBinding The binding plan of the configuration.
+     * @param result               The result.
+     */
+
+    private void load(@NotNull final ConfigurationBinding configurationBinding, @NotNull final ConfigurationLoadResult result) {
+
+        final Class<?> type = configurationBinding.getType();
+        // Phases are only timed if anyone listens.
+        final boolean instrumented = this.isInstrumented();
+        final long start = instrumented ? System.nanoTime() : 0;
+        try {
+            final File file = configurationBinding.getFile();
+            final boolean created = !file.exists();
+            if (created)
+                this.saveDefaultConfiguration(file, configurationBinding.getConfiguration());
+            long phaseStart = 0;
+            if (instrumented) {
+                phaseStart = System.nanoTime();
+                final long nanos = phaseStart - start;
+                this.notifyListeners(listener -> listener.onFilePrepared(type, file, nanos, created));
+            }
+
+            final Config fileConfig = this.loadConfigFromFile(file);
+            final long bytesRead = instrumented ? file.length() : 0;
+            if (instrumented) {
+                final long nanos = System.nanoTime() - phaseStart;
+                this.notifyListeners(listener -> listener.onParsed(type, file, nanos, bytesRead));
+            }
+            final ConfigurationSources sources = this.getConfigurationSources(configurationBinding);
+            final Config parsedConfig = sources.isLayered() ? sources.merge(fileConfig) : fileConfig;
+            final Config config = configurationBinding.getConfiguration().snapshot()
+                    ? this.bindSnapshot(configurationBinding, parsedConfig, result, instrumented)
+                    : this.bindFields(configurationBinding, parsedConfig, result, instrumented);
+            sources.setConfig(config);
+            // Default values of missing paths have been added to the config.
+            final boolean saveFile = config != parsedConfig;
+            if (saveFile) {
+                this.saveConfigToFile(parsedConfig == fileConfig
+                        ? config
+                        : this.withMissingValues(fileConfig, parsedConfig, config, configurationBinding), file);
+            }
+            result.addLoaded(type);
+            if (instrumented) {
+                final long nanos = System.nanoTime() - start;
+                final boolean saved = saveFile;
+                final int fields = configurationBinding.getStaticFieldBindings().size();
+                this.notifyListeners(listener -> listener.onLoaded(type, file, nanos, fields, bytesRead, saved));
+            }
+        } catch (final RuntimeException ex) {
+            Constants.LOGGER.error("Failed to load configuration " + type.getName(), ex);
+            result.addFailure(type, ex);
+        }
+
+    }
+
+    @NotNull
+    private ConfigurationSources getConfigurationSources(@NotNull final ConfigurationBinding configurationBinding) {
+
+        return this.configurationSources.computeIfAbsent(configurationBinding.getType(),
+                key -> new ConfigurationSources(configurationBinding.getConfiguration(), this.getClass().getClassLoader()));
+
+    }
+
+    /**
+     * Adds the values that have been added to the merged config for paths missing in every layer to the file config,
+     * overrides and fallback values are never written to the file.
+     *
+     * @param fileConfig           The parsed configuration file.
+     * @param parsedConfig         The merged config before binding.
+     * @param config               The merged config including the values of missing paths.
+     * @param configurationBinding The binding plan of the configuration.
+     * @return The file config including the values of missing paths.
+     */
+
+    @NotNull
+    private Config withMissingValues(@Nullable final Config fileConfig, @NotNull final Config parsedConfig,
+                                     @NotNull final Config config, @NotNull final ConfigurationBinding configurationBinding) {
+
+        Config result = fileConfig != null ? fileConfig : ConfigFactory.empty();
+        for (final FieldBinding fieldBinding : configurationBinding.getStaticFieldBindings()) {
+            final String path = fieldBinding.getPath();
+            if (!parsedConfig.hasPath(path) && config.hasPath(path))
+                result = result.withValue(path, config.getValue(path));
+        }
+
+        return result;
+
+    }
+
+    /**
+     * Binds every value of the provided config to its static field one after another, missing values get added to the
+     * config with the current field value.
+     *
+     * @param configurationBinding The binding plan of the configuration.
+     * @param config               The parsed config.
+     * @param result               The result failures get added to.
+     * @param instrumented         Whether the listeners get notified about every bound field.
+     * @return The config including the values of missing paths.
+     */
+
+    @NotNull
+    private Config bindFields(@NotNull final ConfigurationBinding configurationBinding, @NotNull Config config,
+                              @NotNull final ConfigurationLoadResult result, final boolean instrumented) {
+
+        final Class<?> type = configurationBinding.getType();
+        final ValueInterner valueInterner = this.valueInterner;
+        final List<ConfigurationChangeListener> changeListeners = this.changeListeners.get(type);
+        final boolean subscribed = changeListeners != null && !changeListeners.isEmpty();
+        List<ConfigurationChangeEvent.Change> changes = null;
+        for (final FieldBinding fieldBinding : configurationBinding.getStaticFieldBindings()) {
+            try {
+                if (config.hasPath(fieldBinding.getPath())) {
+                    // Previous values are only captured if anyone gets notified about the change.
+                    final Subscribable<?> holder = fieldBinding.getSubscribable(null);
+                    final boolean tracked = subscribed || holder != null && holder.hasSubscribers();
+                    // Pending lazy values are never computed just to track changes.
+                    final Object oldValue = tracked ? fieldBinding.peekValue(null) : null;
+                    // Only values that changed since the last load get deserialized again.
+                    final long fieldStart = instrumented ? System.nanoTime() : 0;
+                    final boolean updated = fieldBinding.readIfChanged(config, valueInterner);
+                    if (instrumented) {
+                        final long nanos = System.nanoTime() - fieldStart;
+                        this.notifyListeners(listener -> listener.onFieldBound(fieldBinding, nanos, updated));
                     }
-                    if (config.hasPath(path)) {
-                        // Complex objects like collections require generic type handlers.
-                        boolean requiresGenericTypeHandler = false;
-                        for (final Map.Entry<Predicate<Class<?>>, GenericTypeHandlerFactory> entry : this.registeredGenericTypeHandlers.entrySet()) {
-                            if (entry.getKey().test(fieldType)) {
-                                requiresGenericTypeHandler = true;
-                                final GenericTypeHandler genericTypeHandler = entry.getValue().create(this.registeredSerializers, field, fieldType, type);
-                                genericTypeHandler.readAndSet(config, path);
-                                break;
-                            }
-                        }
-                        if (requiresGenericTypeHandler) continue;
-                        if (this.registeredSerializers.containsKey(fieldType)) {
-                            final ConfigurationSerializable<?> serializer = this.registeredSerializers.get(fieldType);
-                            setConfigurationFieldValue(field, type, serializer.deserialize(config.getValue(path)));
+                    if (updated && tracked) {
+                        if (fieldBinding.isLazy()) {
+                            // Lazy values changed if their config value changed, they are computed once a listener asks.
+                            if (changes == null)
+                                changes = new ArrayList<>();
+                            changes.add(new ConfigurationChangeEvent.Change(fieldBinding, (Holder<?>) holder, oldValue));
                         } else {
-                            setConfigurationFieldValue(field, type, config.getValue(path).unwrapped());
-                        }
-                    } else {
-                        // Write default values.
-                        // Complex objects like collections require generic type handlers.
-                        boolean requiresGenericTypeHandler = false;
-                        for (final Map.Entry<Predicate<Class<?>>, GenericTypeHandlerFactory> entry : this.registeredGenericTypeHandlers.entrySet()) {
-                            if (entry.getKey().test(fieldType)) {
-                                requiresGenericTypeHandler = true;
-                                final GenericTypeHandler genericTypeHandler = entry.getValue().create(this.registeredSerializers, field, fieldType, type);
-                                config = config.withValue(path, genericTypeHandler.toConfigValue(this.createOrigin(description)));
-                                saveFile = true;
-                                break;
+                            // The config value changed, but the bound value can still be equal, e.g. the default value.
+                            final Object newValue = fieldBinding.getValue(null);
+                            if (!Objects.equals(oldValue, newValue)) {
+                                if (changes == null)
+                                    changes = new ArrayList<>();
+                                changes.add(new ConfigurationChangeEvent.Change(fieldBinding, holder, oldValue, newValue));
                             }
                         }
-                        if (requiresGenericTypeHandler) continue;
-                        if (this.registeredSerializers.containsKey(fieldType)) {
-                            final ConfigurationSerializable serializer = this.registeredSerializers.get(fieldType);
-                            config = config.withValue(path, serializer.serialize(fieldValue).withOrigin(this.createOrigin(description)));
-                        } else {
-                            config = config.withValue(path, ConfigValueFactory.fromAnyRef(fieldValue).withOrigin(this.createOrigin(description)));
+                    }
+                } else {
+                    fieldBinding.invalidate();
+                    // Write default values, empty holders have none and stay missing.
+                    if (fieldBinding.hasValue(null))
+                        config = config.withValue(fieldBinding.getPath(), fieldBinding.toConfigValue(this.createOrigin(fieldBinding.getDescription())));
+                }
+            } catch (final ReflectiveOperationException | RuntimeException ex) {
+                Constants.LOGGER.warn("Failed to load configuration value.", ex);
+                result.addFailure(type, ex);
+            }
+        }
+        if (changes != null)
+            this.notifyChange(new ConfigurationChangeEvent(type, changes), changeListeners);
+
+        return config;
+
+    }
+
+    /**
+     * Decodes every value of the provided config into a new snapshot without touching any field and publishes it with
+     * a single reference swap once all values have been decoded, the static fields are updated afterwards. Values whose
+     * config value didn't change are taken over from the previous snapshot. If any value fails the previous snapshot
+     * and all fields are kept.
+     *
+     * @param configurationBinding The binding plan of the configuration.
+     * @param config               The parsed config.
+     * @param result               The result failures get added to.
+     * @param instrumented         Whether the listeners get notified about every decoded field.
+     * @return The config including the values of missing paths.
+     */
+
+    @NotNull
+    private Config bindSnapshot(@NotNull final ConfigurationBinding configurationBinding, @NotNull Config config,
+                                @NotNull final ConfigurationLoadResult result, final boolean instrumented) {
+
+        final Class<?> type = configurationBinding.getType();
+        final ValueInterner valueInterner = this.valueInterner;
+        final List<FieldBinding> fieldBindings = configurationBinding.getStaticFieldBindings();
+        // Concurrent reloads of the same configuration would otherwise both build on the same previous snapshot.
+        synchronized (configurationBinding) {
+            final ConfigurationSnapshot previous = configurationBinding.getSnapshot();
+            final Map<String, Object> values = new LinkedHashMap<>();
+            final Map<String, Object> fingerprints = new HashMap<>();
+            final List<FieldBinding> updatedBindings = new ArrayList<>();
+            boolean failed = false;
+            for (final FieldBinding fieldBinding : fieldBindings) {
+                final String path = fieldBinding.getPath();
+                try {
+                    // Missing values are added with the current field value and then decoded like every other value.
+                    if (!config.hasPath(path)) {
+                        // Empty holders have no value to add and aren't part of the snapshot.
+                        if (!fieldBinding.hasValue(null))
+                            continue;
+                        config = config.withValue(path, fieldBinding.toConfigValue(this.createOrigin(fieldBinding.getDescription())));
+                    }
+                    final long fieldStart = instrumented ? System.nanoTime() : 0;
+                    final Object fingerprint = fieldBinding.fingerprint(config);
+                    final boolean updated = previous == null || !fingerprint.equals(previous.getFingerprint(path));
+                    values.put(path, updated ? fieldBinding.decodeImmutable(config, valueInterner) : previous.get(path));
+                    fingerprints.put(path, fingerprint);
+                    if (updated)
+                        updatedBindings.add(fieldBinding);
+                    if (instrumented) {
+                        final long nanos = System.nanoTime() - fieldStart;
+                        this.notifyListeners(listener -> listener.onFieldBound(fieldBinding, nanos, updated));
+                    }
+                } catch (final ReflectiveOperationException | RuntimeException ex) {
+                    Constants.LOGGER.warn("Failed to load configuration value.", ex);
+                    result.addFailure(type, ex);
+                    failed = true;
+                }
+            }
+            if (failed) {
+                Constants.LOGGER.warn("Keeping " + (previous != null ? "generation " + previous.getGeneration() : "the field values")
+                        + " of configuration " + type.getName() + " since not all values could be loaded.");
+                return config;
+            }
+            if (previous != null && updatedBindings.isEmpty())
+                return config;
+
+            final ConfigurationSnapshot snapshot = new ConfigurationSnapshot(type, previous != null ? previous.getGeneration() + 1 : 1,
+                    values, fingerprints);
+            configurationBinding.setSnapshot(snapshot);
+
+            // Fields are only updated for readers that don't use the snapshot.
+            final List<ConfigurationChangeListener> changeListeners = this.changeListeners.get(type);
+            final boolean subscribed = changeListeners != null && !changeListeners.isEmpty();
+            List<ConfigurationChangeEvent.Change> changes = null;
+            for (final FieldBinding fieldBinding : updatedBindings) {
+                try {
+                    final Subscribable<?> holder = fieldBinding.getSubscribable(null);
+                    final boolean tracked = subscribed || holder != null && holder.hasSubscribers();
+                    final Object oldValue = tracked ? fieldBinding.peekValue(null) : null;
+                    final Object newValue = snapshot.get(fieldBinding.getPath());
+                    fieldBinding.setValue(null, newValue);
+                    if (tracked && !Objects.equals(oldValue, newValue)) {
+                        if (changes == null)
+                            changes = new ArrayList<>();
+                        changes.add(new ConfigurationChangeEvent.Change(fieldBinding, holder, oldValue, newValue));
+                    }
+                } catch (final ReflectiveOperationException | RuntimeException ex) {
+                    Constants.LOGGER.warn("Failed to update configuration field.", ex);
+                    result.addFailure(type, ex);
+                }
+            }
+            if (changes != null)
+                this.notifyChange(new ConfigurationChangeEvent(type, changes), changeListeners);
+        }
+
+        return config;
+
+    }
+
+    /**
+     * Loads one instance of an instance scoped configuration per provided directory, see
+     * {@link #loadInstances(Class, Map, Executor, SharedValues)}.
+     *
+     * @param type        The configuration class.
+     * @param directories The base directories of the instances mapped by key, for example one per tenant.
+     * @param <K>         The key type.
+     * @param <T>         The configuration type.
+     * @return The loaded instances and failures.
+     * @throws IllegalArgumentException If the class isn't annotated with {@link Configuration} or can't be instantiated.
+     */
+
+    @NotNull
+    public <K, T> InstanceLoadResult<K, T> loadInstances(@NotNull final Class<T> type,
+                                                         @NotNull final Map<K, File> directories) throws IllegalArgumentException {
+
+        return this.loadInstances(type, directories, Runnable::run, new SharedValues(this.valueInterner));
+
+    }
+
+    /**
+     * Loads one instance of an instance scoped configuration per provided directory in parallel on the provided
+     * executor, see {@link #loadInstances(Class, Map, Executor, SharedValues)}.
+     *
+     * @param type        The configuration class.
+     * @param directories The base directories of the instances mapped by key, for example one per tenant.
+     * @param executor    The executor the instances get loaded on.
+     * @param <K>         The key type.
+     * @param <T>         The configuration type.
+     * @return The loaded instances and failures.
+     * @throws IllegalArgumentException If the class isn't annotated with {@link Configuration} or can't be instantiated.
+     */
+
+    @NotNull
+    public <K, T> InstanceLoadResult<K, T> loadInstances(@NotNull final Class<T> type,
+                                                         @NotNull final Map<K, File> directories,
+                                                         @NotNull final Executor executor) throws IllegalArgumentException {
+
+        return this.loadInstances(type, directories, executor, new SharedValues(this.valueInterner));
+
+    }
+
+    /**
+     * Loads one instance of an instance scoped configuration per provided directory in parallel on the provided
+     * executor. Every instance is created through the zero-args constructor of the class and its instance fields are
+     * bound to the configuration file inside its directory, the file name and sub paths of the {@link Configuration}
+     * annotation are resolved against the directory. The binding plan is shared by all instances and values that are
+     * structurally equal between instances are only decoded once and shared. Blocks until every instance has been
+     * processed.
+     *
+     * @param type         The configuration class.
+     * @param directories  The base directories of the instances mapped by key, for example one per tenant.
+     * @param executor     The executor the instances get loaded on.
+     * @param sharedValues The values shared between the instances, may be re-used to share values with instances of
+     *                     previous loads.
+     * @param <K>          The key type.
+     * @param <T>          The configuration type.
+     * @return The loaded instances and failures.
+     * @throws IllegalArgumentException If the class isn't annotated with {@link Configuration} or can't be instantiated.
+     */
+
+    @NotNull
+    public <K, T> InstanceLoadResult<K, T> loadInstances(@NotNull final Class<T> type,
+                                                         @NotNull final Map<K, File> directories,
+                                                         @NotNull final Executor executor,
+                                                         @NotNull final SharedValues sharedValues) throws IllegalArgumentException {
+
+        final Configuration configuration = type.getAnnotation(Configuration.class);
+        if (configuration == null)
+            throw new IllegalArgumentException(type.getName() + " is not annotated with @Configuration.");
+        final Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (final NoSuchMethodException | RuntimeException ex) {
+            throw new IllegalArgumentException(type.getName() + " doesn't provide an accessible zero-args constructor.", ex);
+        }
+
+        final InstanceLoadResult<K, T> result = new InstanceLoadResult<>();
+        final ConfigurationBinding configurationBinding;
+        try {
+            configurationBinding = this.getConfigurationBinding(type, configuration);
+        } catch (final RuntimeException ex) {
+            // Without a binding plan no instance can be loaded.
+            Constants.LOGGER.error("Failed to create binding plan of configuration " + type.getName(), ex);
+            for (final K key : directories.keySet())
+                result.addFailure(key, ex);
+            return result;
+        }
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(directories.size());
+        for (final Map.Entry<K, File> directoryEntry : directories.entrySet()) {
+            futures.add(CompletableFuture.runAsync(() -> this.loadInstance(configurationBinding, constructor,
+                    directoryEntry.getKey(), directoryEntry.getValue(), sharedValues, result), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        return result;
+
+    }
+
+    /**
+     * Loads a single configuration instance, every failure gets logged and added to the provided result.
+     */
+
+    private <K, T> void loadInstance(@NotNull final ConfigurationBinding configurationBinding,
+                                     @NotNull final Constructor<T> constructor,
+                                     @NotNull final K key,
+                                     @NotNull final File directory,
+                                     @NotNull final SharedValues sharedValues,
+                                     @NotNull final InstanceLoadResult<K, T> result) {
+
+        final Class<?> type = configurationBinding.getType();
+        final boolean instrumented = this.isInstrumented();
+        final long start = instrumented ? System.nanoTime() : 0;
+        try {
+            final T instance = constructor.newInstance();
+            final File file = this.getFile(directory, configurationBinding.getConfiguration());
+            final boolean created = !file.exists();
+            if (created)
+                this.saveDefaultConfiguration(file, configurationBinding.getConfiguration());
+            long phaseStart = 0;
+            if (instrumented) {
+                phaseStart = System.nanoTime();
+                final long nanos = phaseStart - start;
+                this.notifyListeners(listener -> listener.onFilePrepared(type, file, nanos, created));
+            }
+
+            boolean saveFile = false;
+            Config config = this.loadConfigFromFile(file);
+            final long bytesRead = instrumented ? file.length() : 0;
+            if (instrumented) {
+                final long nanos = System.nanoTime() - phaseStart;
+                this.notifyListeners(listener -> listener.onParsed(type, file, nanos, bytesRead));
+            }
+            for (final FieldBinding fieldBinding : configurationBinding.getInstanceFieldBindings()) {
+                try {
+                    if (config.hasPath(fieldBinding.getPath())) {
+                        final long fieldStart = instrumented ? System.nanoTime() : 0;
+                        fieldBinding.read(config, instance, sharedValues);
+                        if (instrumented) {
+                            final long nanos = System.nanoTime() - fieldStart;
+                            this.notifyListeners(listener -> listener.onFieldBound(fieldBinding, nanos, true));
                         }
+                    } else if (fieldBinding.hasValue(instance)) {
+                        // Write default values, empty holders have none and stay missing.
+                        config = config.withValue(fieldBinding.getPath(), fieldBinding.toConfigValue(this.createOrigin(fieldBinding.getDescription()), instance));
                         saveFile = true;
                     }
-                } catch (final ReflectiveOperationException ex) {
-                    Constants.LOGGER.warn("Failed to load configuration value.", ex);
+                } catch (final ReflectiveOperationException | RuntimeException ex) {
+                    Constants.LOGGER.warn("Failed to load configuration value of instance " + key + ".", ex);
+                    result.addFailure(key, ex);
                 }
             }
             if (saveFile)
                 this.saveConfigToFile(config, file);
+            result.addInstance(key, instance);
+            if (instrumented) {
+                final long nanos = System.nanoTime() - start;
+                final boolean saved = saveFile;
+                final int fields = configurationBinding.getInstanceFieldBindings().size();
+                this.notifyListeners(listener -> listener.onLoaded(type, file, nanos, fields, bytesRead, saved));
+            }
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            Constants.LOGGER.error("Failed to load instance " + key + " of configuration " + type.getName(), ex);
+            result.addFailure(key, ex);
         }
 
     }
 
+    /**
+     * Returns the cached binding plan of the provided configuration class, the plan gets created on first access and
+     * is re-used until the registered generic type handlers or serializers change.
+     *
+     * @param type          The configuration class.
+     * @param configuration The configuration annotation of the class.
+     * @return The binding plan.
+     */
+
+    @NotNull
+    public ConfigurationBinding getConfigurationBinding(@NotNull final Class<?> type, @NotNull final Configuration configuration) {
+
+        return this.configurationBindings.computeIfAbsent(type, key -> this.createConfigurationBinding(key, configuration));
+
+    }
+
+    /**
+     * Rebuilds every cached binding plan after the registered generic type handlers or serializers changed. The
+     * published snapshot and the last read config values of fields whose decoding didn't change are taken over, so
+     * generations continue and unchanged values are not bound again. Plans that can't be rebuilt are dropped and
+     * created again on the next load, which reports the failure.
+     */
+
+    private void rebuildConfigurationBindings() {
+
+        for (final Map.Entry<Class<?>, ConfigurationBinding> entry : this.configurationBindings.entrySet()) {
+            final ConfigurationBinding previous = entry.getValue();
+            try {
+                entry.setValue(this.rebuildConfigurationBinding(previous));
+            } catch (final RuntimeException ex) {
+                this.configurationBindings.remove(entry.getKey(), previous);
+            }
+        }
+
+    }
+
+    @NotNull
+    private ConfigurationBinding rebuildConfigurationBinding(@NotNull final ConfigurationBinding previous) {
+
+        final ConfigurationBinding configurationBinding = this.createConfigurationBinding(previous.getType(), previous.getConfiguration());
+        final Map<Field, FieldBinding> previousFieldBindings = new HashMap<>();
+        for (final FieldBinding fieldBinding : previous.getFieldBindings())
+            previousFieldBindings.put(fieldBinding.getField(), fieldBinding);
+        final List<String> stalePaths = new ArrayList<>();
+        for (final FieldBinding fieldBinding : configurationBinding.getFieldBindings()) {
+            final FieldBinding previousFieldBinding = previousFieldBindings.get(fieldBinding.getField());
+            if (previousFieldBinding == null || !fieldBinding.inherit(previousFieldBinding))
+                stalePaths.add(fieldBinding.getPath());
+        }
+        final ConfigurationSnapshot snapshot = previous.getSnapshot();
+        if (snapshot != null)
+            configurationBinding.setSnapshot(stalePaths.isEmpty() ? snapshot : snapshot.withoutFingerprints(stalePaths));
+
+        return configurationBinding;
+
+    }
+
+    /**
+     * Creates the binding plan of the provided configuration class by resolving the target type, the generic type
+     * handler or serializer and the path of every annotated field.
+     *
+     * @param type          The configuration class.
+     * @param configuration The configuration annotation of the class.
+     * @return The created binding plan.
+     */
+
+    @NotNull
+    private ConfigurationBinding createConfigurationBinding(@NotNull final Class<?> type, @NotNull final Configuration configuration) {
+
+        final List<FieldBinding> fieldBindings = this.createGeneratedFieldBindings(type);
+        if (fieldBindings != null)
+            return new ConfigurationBinding(type, configuration, this.getFile(configuration), fieldBindings);
+
+        final Map<Field, ConfigurationValue> fields = this.easyReflect.findAnnotatedFields(type, ConfigurationValue.class);
+        final List<FieldBinding> reflectiveFieldBindings = new ArrayList<>(fields.size());
+        for (final Map.Entry<Field, ConfigurationValue> fieldEntry : fields.entrySet())
+            reflectiveFieldBindings.add(this.createFieldBinding(type, fieldEntry.getKey(), fieldEntry.getValue().path(), fieldEntry.getValue().description()));
+
+        return new ConfigurationBinding(type, configuration, this.getFile(configuration), reflectiveFieldBindings);
+
+    }
+
+    /**
+     * Creates the field bindings of the provided configuration class from its generated {@link ConfigurationBinder}.
+     *
+     * @param type The configuration class.
+     * @return The field bindings or <code>null</code> if there is no usable generated binder.
+     */
+
+    @Nullable
+    private List<FieldBinding> createGeneratedFieldBindings(@NotNull final Class<?> type) {
+
+        final ConfigurationBinder configurationBinder;
+        try {
+            final Class<?> binderType = Class.forName(ConfigurationBinder.getBinderName(type), true, type.getClassLoader());
+            configurationBinder = (ConfigurationBinder) binderType.getConstructor().newInstance();
+        } catch (final ClassNotFoundException ex) {
+            return null;
+        } catch (final ReflectiveOperationException | ClassCastException | LinkageError ex) {
+            Constants.LOGGER.warn("Failed to create generated binder of " + type.getName() + ", falling back to reflection.", ex);
+            return null;
+        }
+
+        final List<ConfigurationBinder.BoundField> boundFields = configurationBinder.getFields();
+        final List<FieldBinding> fieldBindings = new ArrayList<>(boundFields.size());
+        for (final ConfigurationBinder.BoundField boundField : boundFields) {
+            final Field field;
+            try {
+                field = type.getDeclaredField(boundField.getName());
+            } catch (final NoSuchFieldException ex) {
+                Constants.LOGGER.warn("Generated binder of " + type.getName() + " is outdated, falling back to reflection.", ex);
+                return null;
+            }
+            if (boundField.getAccessor() != null)
+                FieldAccessors.register(field, boundField.getAccessor());
+            fieldBindings.add(this.createFieldBinding(type, field, boundField.getPath(), boundField.getDescription()));
+        }
+
+        return fieldBindings;
+
+    }
+
+    /**
+     * Creates the binding of a single field by resolving its target type and generic type handler or serializer.
+     *
+     * @param type        The configuration class.
+     * @param field       The field.
+     * @param path        The config path.
+     * @param description The description.
+     * @return The created field binding.
+     */
+
+    @NotNull
+    private FieldBinding createFieldBinding(@NotNull final Class<?> type, @NotNull final Field field,
+                                            @NotNull final String path, @NotNull final String description) {
+
+        final PrimitiveHolderType primitiveHolderType = PrimitiveHolderType.of(field.getType());
+        if (primitiveHolderType != null) {
+            // Primitive holders are bound directly without handlers or serializers.
+            return new FieldBinding(field, type, path, description, false, primitiveHolderType.getValueType(), null, null);
+        }
+
+        final boolean holder = Holder.class.isAssignableFrom(field.getType());
+        Class<?> fieldType = field.getType();
+        if (holder) {
+            // Override with the first generic type from the holder.
+            final ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
+            fieldType = ValueCodecs.getRawType(parameterizedType.getActualTypeArguments()[0]);
+        }
+
+        // Complex objects like collections require generic type handlers.
+        GenericTypeHandler genericTypeHandler = null;
+        for (final Map.Entry<Predicate<Class<?>>, GenericTypeHandlerFactory> entry : this.registeredGenericTypeHandlers.entrySet()) {
+            if (entry.getKey().test(fieldType)) {
+                genericTypeHandler = entry.getValue().create(this.registeredSerializers, field, fieldType, type);
+                break;
+            }
+        }
+        final ConfigurationSerializable<?> serializer = genericTypeHandler == null ? this.registeredSerializers.find(fieldType) : null;
+        final ConfigurationValue configurationValue = field.getAnnotation(ConfigurationValue.class);
+        final Configuration configuration = type.getAnnotation(Configuration.class);
+        final boolean lazy = (configurationValue != null && configurationValue.lazy()) || (configuration != null && configuration.lazy());
+        return new FieldBinding(field, type, path, description, holder, fieldType, genericTypeHandler, serializer, lazy);
+
+    }
+
     /**
      * Creates a config origin with the provided description as a comment.
      *
@@ -220,12 +991,14 @@ public class ConfigurationResolver {
     public Config loadConfigFromFile(@NotNull final File file) {
 
         if (!file.exists()) return null;
-        return ConfigFactory.parseFile(file);
+        final ConfigurationSnapshotCache snapshotCache = this.snapshotCache;
+        return snapshotCache != null ? snapshotCache.load(file) : ConfigFactory.parseFile(file);
 
     }
 
     /**
-     * Writes the provided config to the provided file.
+     * Writes the provided config to the provided file. The file is left untouched if it already contains the exact
+     * same content, otherwise it gets replaced atomically.
      *
      * @param config The config.
      * @param file   The file.
@@ -233,16 +1006,78 @@ public class ConfigurationResolver {
 
     public void saveConfigToFile(@NotNull final Config config, @NotNull final File file) {
 
+        try {
+            this.writeConfigToFile(config, file);
+        } catch (final IOException ex) {
+            Constants.LOGGER.error("Failed to update configuration file.", ex);
+        }
+
+    }
+
+    /**
+     * Writes the provided config to the provided file like {@link #saveConfigToFile(Config, File)} on the default
+     * executor, see {@link AsyncExecutors#defaultExecutor()}.
+     *
+     * @param config The config.
+     * @param file   The file.
+     * @return The future completed once the file has been written, completed exceptionally with an
+     * {@link UncheckedIOException} if writing failed.
+     */
+
+    @NotNull
+    public CompletableFuture<Void> saveConfigToFileAsync(@NotNull final Config config, @NotNull final File file) {
+
+        return this.saveConfigToFileAsync(config, file, AsyncExecutors.defaultExecutor());
+
+    }
+
+    /**
+     * Writes the provided config to the provided file like {@link #saveConfigToFile(Config, File)} on the provided
+     * executor.
+     *
+     * @param config   The config.
+     * @param file     The file.
+     * @param executor The executor the config gets rendered and written on.
+     * @return The future completed once the file has been written, completed exceptionally with an
+     * {@link UncheckedIOException} if writing failed.
+     */
+
+    @NotNull
+    public CompletableFuture<Void> saveConfigToFileAsync(@NotNull final Config config, @NotNull final File file,
+                                                         @NotNull final Executor executor) {
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                this.writeConfigToFile(config, file);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException("Failed to update configuration file " + file.getAbsolutePath(), ex);
+            }
+        }, executor);
+
+    }
+
+    private void writeConfigToFile(@NotNull final Config config, @NotNull final File file) throws IOException {
+
+        final long start = System.nanoTime();
         final ConfigRenderOptions configRenderOptions = ConfigRenderOptions.defaults()
                 .setOriginComments(false)
                 .setComments(true)
                 .setJson(false);
         final String content = config.root().render(configRenderOptions);
-        try (final Writer writer = new FileWriter(file)) {
-            writer.write(content);
-            Constants.LOGGER.info("Updated configuration file: " + file.toPath().toAbsolutePath());
-        } catch (final IOException ex) {
-            Constants.LOGGER.error("Failed to update configuration file.", ex);
+        final long renderEnd = System.nanoTime();
+        long bytes = 0;
+        try {
+            if (FileManager.writeIfChanged(file.toPath(), content)) {
+                Constants.LOGGER.info("Updated configuration file: " + file.toPath().toAbsolutePath());
+                bytes = file.length();
+            }
+        } finally {
+            if (this.isInstrumented()) {
+                final long renderNanos = renderEnd - start;
+                final long writeNanos = System.nanoTime() - renderEnd;
+                final long writtenBytes = bytes;
+                this.notifyListeners(listener -> listener.onSaved(file, renderNanos, writeNanos, writtenBytes));
+            }
         }
 
     }
@@ -259,7 +1094,8 @@ public class ConfigurationResolver {
         boolean success = true;
         File targetDirectory = file.getParentFile();
         while (!targetDirectory.exists()) {
-            success = targetDirectory.mkdirs();
+            // Another configuration in the same directory might be created concurrently.
+            success = targetDirectory.mkdirs() || targetDirectory.isDirectory();
             if (success) {
                 Constants.LOGGER.info("Created directory: " + targetDirectory.getAbsolutePath());
             } else {
@@ -305,7 +1141,22 @@ public class ConfigurationResolver {
     @NotNull
     private File getFile(@NotNull final Configuration configuration) {
 
-        File file = new File(System.getProperty("user.dir"));
+        return this.getFile(new File(System.getProperty("user.dir")), configuration);
+
+    }
+
+    /**
+     * Get the actual full file based on the {@link Configuration} annotation values relative to the provided directory.
+     *
+     * @param directory     The base directory.
+     * @param configuration The annotation instance.
+     * @return The full file.
+     */
+
+    @NotNull
+    private File getFile(@NotNull final File directory, @NotNull final Configuration configuration) {
+
+        File file = directory;
         for (final String subPath : configuration.subPaths())
             file = new File(file, subPath);
 
@@ -313,6 +1164,256 @@ public class ConfigurationResolver {
 
     }
 
+    /**
+     * Sets the compile-time index used to resolve configuration and serializer classes instead of scanning the
+     * classpath.
+     *
+     * @param configurationIndex The index or <code>null</code> to scan the classpath.
+     */
+
+    public void setConfigurationIndex(@Nullable final ConfigurationIndex configurationIndex) {
+
+        this.configurationIndex = configurationIndex;
+
+    }
+
+    @Nullable
+    public ConfigurationIndex getConfigurationIndex() {
+
+        return this.configurationIndex;
+
+    }
+
+    /**
+     * Sets the cache used to skip parsing of configuration files that didn't change since they were last parsed.
+     *
+     * @param snapshotCache The cache or <code>null</code> to always parse the files.
+     */
+
+    public void setSnapshotCache(@Nullable final ConfigurationSnapshotCache snapshotCache) {
+
+        this.snapshotCache = snapshotCache;
+
+    }
+
+    @Nullable
+    public ConfigurationSnapshotCache getSnapshotCache() {
+
+        return this.snapshotCache;
+
+    }
+
+    /**
+     * Sets the interner used to deduplicate strings, numbers and small collections of all bound values. Only values
+     * read after setting the interner are deduplicated.
+     *
+     * @param valueInterner The interner or <code>null</code> to keep the values as they are.
+     */
+
+    public void setValueInterner(@Nullable final ValueInterner valueInterner) {
+
+        this.valueInterner = valueInterner;
+
+    }
+
+    @Nullable
+    public ValueInterner getValueInterner() {
+
+        return this.valueInterner;
+
+    }
+
+    /**
+     * Adds a listener that receives the timings and byte counts of every load and save phase.
+     *
+     * @param listener The listener.
+     */
+
+    public void addListener(@NotNull final ConfigurationListener listener) {
+
+        this.listeners.add(listener);
+
+    }
+
+    /**
+     * Removes a previously added listener.
+     *
+     * @param listener The listener.
+     */
+
+    public void removeListener(@NotNull final ConfigurationListener listener) {
+
+        this.listeners.remove(listener);
+
+    }
+
+    /**
+     * Invokes the provided action for every listener, a failing listener doesn't affect the others or the load.
+     *
+     * @param action The action.
+     */
+
+    private void notifyListeners(@NotNull final Consumer<ConfigurationListener> action) {
+
+        for (final ConfigurationListener listener : this.listeners)
+            this.notifyListener(listener, action);
+        if (FLIGHT_RECORDER != null && FLIGHT_RECORDER.isEnabled())
+            this.notifyListener(FLIGHT_RECORDER, action);
+
+    }
+
+    private void notifyListener(@NotNull final ConfigurationListener listener, @NotNull final Consumer<ConfigurationListener> action) {
+
+        try {
+            action.accept(listener);
+        } catch (final RuntimeException ex) {
+            Constants.LOGGER.warn("Configuration listener " + listener.getClass().getName() + " failed.", ex);
+        }
+
+    }
+
+    /**
+     * Subscribes the provided listener to changes of the provided configuration class. All values that changed in one
+     * reload are delivered as a single event on the change executor, see {@link #setChangeExecutor(Executor)}.
+     *
+     * @param type     The configuration class.
+     * @param listener The listener.
+     */
+
+    public void subscribe(@NotNull final Class<?> type, @NotNull final ConfigurationChangeListener listener) {
+
+        this.changeListeners.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+
+    }
+
+    /**
+     * Removes a listener added through {@link #subscribe(Class, ConfigurationChangeListener)}.
+     *
+     * @param type     The configuration class.
+     * @param listener The listener.
+     */
+
+    public void unsubscribe(@NotNull final Class<?> type, @NotNull final ConfigurationChangeListener listener) {
+
+        this.changeListeners.computeIfPresent(type, (key, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+
+    }
+
+    /**
+     * Sets the executor change notifications of configurations and holders are delivered on. Each reload is delivered
+     * as a single task, use a single threaded executor to receive the reloads of a configuration in order. By default
+     * notifications are delivered on the loading thread once the configuration has been loaded completely.
+     *
+     * @param changeExecutor The executor.
+     */
+
+    public void setChangeExecutor(@NotNull final Executor changeExecutor) {
+
+        this.changeExecutor = changeExecutor;
+
+    }
+
+    @NotNull
+    public Executor getChangeExecutor() {
+
+        return this.changeExecutor;
+
+    }
+
+    /**
+     * Delivers the provided changes to the subscribers of the changed holders and of the configuration.
+     *
+     * @param event           The changes.
+     * @param changeListeners The subscribers of the configuration.
+     */
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void notifyChange(@NotNull final ConfigurationChangeEvent event, @Nullable final List<ConfigurationChangeListener> changeListeners) {
+
+        try {
+            this.changeExecutor.execute(() -> {
+                for (final ConfigurationChangeEvent.Change change : event.getChanges()) {
+                    final Subscribable holder = change.getHolder();
+                    // Only subscribed holders compute the new value of lazy changes.
+                    if (holder != null && holder.hasSubscribers())
+                        holder.notifySubscribers(change.getOldValue(), change.getNewValue());
+                }
+                if (changeListeners == null) return;
+                for (final ConfigurationChangeListener listener : changeListeners) {
+                    try {
+                        listener.onChange(event);
+                    } catch (final RuntimeException ex) {
+                        Constants.LOGGER.warn("Change listener " + listener.getClass().getName() + " failed.", ex);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            Constants.LOGGER.warn("Failed to deliver changes of configuration " + event.getType().getName(), ex);
+        }
+
+    }
+
+    /**
+     * Checks if any listener or a JFR recording is interested in the timings, phases are only timed if so.
+     *
+     * @return <code>true</code> if the phases should be timed, <code>false</code> otherwise.
+     */
+
+    private boolean isInstrumented() {
+
+        return !this.listeners.isEmpty() || FLIGHT_RECORDER != null && FLIGHT_RECORDER.isEnabled();
+
+    }
+
+    /**
+     * Returns the config the values of the provided configuration have been bound from by the last load. For layered
+     * configurations this is the merged tree of all sources, see {@link Configuration#overridePrefix()} and
+     * {@link Configuration#resourceFallback()}. The tree is merged once per load, reading it doesn't merge again.
+     *
+     * @param type The configuration class.
+     * @return The config or <code>null</code> if the configuration hasn't been loaded yet.
+     */
+
+    @Nullable
+    public Config getMergedConfig(@NotNull final Class<?> type) {
+
+        final ConfigurationSources sources = this.configurationSources.get(type);
+        return sources != null ? sources.getConfig() : null;
+
+    }
+
+    /**
+     * Returns the last published snapshot of a snapshot configuration, see {@link Configuration#snapshot()}. Reading
+     * the snapshot doesn't lock, all values of the returned snapshot belong to the same load.
+     *
+     * @param type The configuration class.
+     * @return The snapshot or <code>null</code> if the configuration hasn't been loaded successfully yet.
+     */
+
+    @Nullable
+    public ConfigurationSnapshot getSnapshot(@NotNull final Class<?> type) {
+
+        final ConfigurationBinding configurationBinding = this.configurationBindings.get(type);
+        return configurationBinding != null ? configurationBinding.getSnapshot() : null;
+
+    }
+
+    /**
+     * Returns the configuration classes found by the last {@link #resolveAndLoad} call.
+     *
+     * @return The resolved configuration classes mapped to their annotation.
+     */
+
+    @NotNull
+    public Map<Class<?>, Configuration> getResolvedConfigurations() {
+
+        return this.resolvedConfigurations;
+
+    }
+
     /**
      * Registers a new generic type handler.
      *
@@ -323,6 +1424,7 @@ public class ConfigurationResolver {
     public void registerGenericTypeHandler(@NotNull final Predicate<Class<?>> predicate, @NotNull final GenericTypeHandlerFactory initializer) {
 
         this.registeredGenericTypeHandlers.put(predicate, initializer);
+        this.rebuildConfigurationBindings();
 
     }
 
@@ -361,8 +1463,10 @@ public class ConfigurationResolver {
 
     public void registerSerializer(@NotNull final Class<?> type, @NotNull final ConfigurationSerializable<?> serializer, final boolean override) {
 
-        if (!this.registeredSerializers.containsKey(type) || override)
+        if (!this.registeredSerializers.containsKey(type) || override) {
             this.registeredSerializers.put(type, serializer);
+            this.rebuildConfigurationBindings();
+        }
 
     }
 
@@ -391,11 +1495,12 @@ public class ConfigurationResolver {
     public static void setConfigurationFieldValue(@NotNull final Field field, @NotNull final Class<?> type,
                                                   @Nullable final Object value) throws IllegalAccessException {
 
-        if (field.getType().isAssignableFrom(Holder.class)) {
-            final Holder holder = (Holder) field.get(type);
+        final FieldAccessor accessor = FieldAccessors.of(field);
+        if (Holder.class.isAssignableFrom(field.getType())) {
+            final Holder holder = (Holder) accessor.get(null);
             holder.set(value);
         } else {
-            field.set(type, value);
+            accessor.set(null, value);
         }
 
     }
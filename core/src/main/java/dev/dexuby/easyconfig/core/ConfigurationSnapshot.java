@@ -0,0 +1,121 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable view of all values of a snapshot configuration as they have been loaded by one generation. A new snapshot is
+ * built on every reload that changed a value and replaces the previous one as a whole, so values read from the same
+ * snapshot always belong together. Collections and maps are unmodifiable views, arrays must not be modified.
+ */
+
+public final class ConfigurationSnapshot {
+
+    private final Class<?> type;
+    private final long generation;
+    private final Map<String, Object> values;
+    private final Map<String, Object> fingerprints;
+
+    ConfigurationSnapshot(@NotNull final Class<?> type, final long generation,
+                          @NotNull final Map<String, Object> values, @NotNull final Map<String, Object> fingerprints) {
+
+        this.type = type;
+        this.generation = generation;
+        this.values = Collections.unmodifiableMap(values);
+        this.fingerprints = fingerprints;
+
+    }
+
+    @NotNull
+    public Class<?> getType() {
+
+        return this.type;
+
+    }
+
+    /**
+     * Returns the generation of the snapshot, the first snapshot of a configuration has generation <code>1</code> and
+     * every following snapshot increments it.
+     *
+     * @return The generation.
+     */
+
+    public long getGeneration() {
+
+        return this.generation;
+
+    }
+
+    /**
+     * Returns the value at the provided path, holders are unwrapped and primitive holder values are boxed.
+     *
+     * @param path The path of the value.
+     * @param <T>  The type.
+     * @return The value or <code>null</code> if the configuration has no value at the path.
+     */
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NotNull final String path) {
+
+        return (T) this.values.get(path);
+
+    }
+
+    /**
+     * Returns all values mapped by their path.
+     *
+     * @return The values.
+     */
+
+    @NotNull
+    public Map<String, Object> getValues() {
+
+        return this.values;
+
+    }
+
+    /**
+     * Returns the fingerprint of the config value the value at the provided path has been decoded from.
+     *
+     * @param path The path of the value.
+     * @return The fingerprint or <code>null</code> if the configuration has no value at the path.
+     */
+
+    @Nullable
+    Object getFingerprint(@NotNull final String path) {
+
+        return this.fingerprints.get(path);
+
+    }
+
+    /**
+     * Creates a copy of the same generation that has no fingerprint for the provided paths, so the next reload decodes
+     * their values again.
+     *
+     * @param paths The paths.
+     * @return The copy.
+     */
+
+    @NotNull
+    ConfigurationSnapshot withoutFingerprints(@NotNull final Collection<String> paths) {
+
+        final Map<String, Object> fingerprints = new HashMap<>(this.fingerprints);
+        fingerprints.keySet().removeAll(paths);
+        return new ConfigurationSnapshot(this.type, this.generation, this.values, fingerprints);
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "ConfigurationSnapshot{type=" + this.type.getName() + ", generation=" + this.generation + ", values=" + this.values + "}";
+
+    }
+
+}
@@ -0,0 +1,280 @@
+package dev.dexuby.easyconfig.core;
+
+import com.typesafe.config.*;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.util.FileManager;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * On-disk cache of parsed configuration files. Every configuration file gets a snapshot of its parsed tree in the
+ * binary serialization format of Typesafe Config, keyed by the size, the last modified time and the SHA-256 hash of the
+ * file. As long as the file didn't change the snapshot is used instead of parsing the file again, any edit invalidates
+ * it. Files that include other files are never snapshotted since changes of the included files can't be detected.
+ */
+
+public final class ConfigurationSnapshotCache {
+
+    private static final int MAGIC = 0x45435343;
+    private static final int VERSION = 1;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private final Path directory;
+
+    /**
+     * @param directory The directory the snapshots are stored in, created on demand.
+     */
+
+    public ConfigurationSnapshotCache(@NotNull final Path directory) {
+
+        this.directory = directory;
+
+    }
+
+    /**
+     * Loads the provided configuration file from its snapshot if it's still up-to-date, otherwise the file gets parsed
+     * and a new snapshot is written.
+     *
+     * @param file The configuration file.
+     * @return The parsed config or <code>null</code> if the file doesn't exist.
+     */
+
+    @Nullable
+    public Config load(@NotNull final File file) {
+
+        final Path path = file.toPath();
+        final FileKey fileKey;
+        try {
+            fileKey = FileKey.of(path);
+        } catch (final NoSuchFileException ex) {
+            return null;
+        } catch (final IOException ex) {
+            Constants.LOGGER.warn("Failed to read configuration file " + path.toAbsolutePath() + " for snapshot lookup.", ex);
+            return ConfigFactory.parseFile(file);
+        }
+
+        final Path snapshotPath = this.getSnapshotPath(path);
+        final Config snapshot = this.readSnapshot(snapshotPath, fileKey);
+        if (snapshot != null)
+            return snapshot;
+
+        final IncludeTracker includeTracker = new IncludeTracker(new AtomicBoolean());
+        final Config config = ConfigFactory.parseFile(file, ConfigParseOptions.defaults().setIncluder(includeTracker));
+        if (!includeTracker.included.get())
+            this.writeSnapshot(snapshotPath, fileKey, config);
+
+        return config;
+
+    }
+
+    /**
+     * Removes the snapshot of the provided configuration file if present.
+     *
+     * @param file The configuration file.
+     */
+
+    public void invalidate(@NotNull final File file) {
+
+        try {
+            Files.deleteIfExists(this.getSnapshotPath(file.toPath()));
+        } catch (final IOException ex) {
+            Constants.LOGGER.warn("Failed to delete snapshot of configuration file " + file.toPath().toAbsolutePath(), ex);
+        }
+
+    }
+
+    @Nullable
+    private Config readSnapshot(@NotNull final Path snapshotPath, @NotNull final FileKey fileKey) {
+
+        if (!Files.isRegularFile(snapshotPath)) return null;
+        try (final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (inputStream.readInt() != MAGIC || inputStream.readInt() != VERSION) return null;
+            final byte[] hash = new byte[fileKey.hash.length];
+            if (inputStream.readLong() != fileKey.size || inputStream.readLong() != fileKey.lastModified) return null;
+            inputStream.readFully(hash);
+            if (!Arrays.equals(hash, fileKey.hash)) return null;
+            try (final ObjectInputStream objectInputStream = new ConfigObjectInputStream(inputStream)) {
+                return (Config) objectInputStream.readObject();
+            }
+        } catch (final IOException | ClassNotFoundException | ClassCastException ex) {
+            Constants.LOGGER.warn("Ignoring unreadable configuration snapshot " + snapshotPath.toAbsolutePath(), ex);
+            return null;
+        }
+
+    }
+
+    private void writeSnapshot(@NotNull final Path snapshotPath, @NotNull final FileKey fileKey, @NotNull final Config config) {
+
+        try {
+            final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (final DataOutputStream outputStream = new DataOutputStream(byteArrayOutputStream)) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(VERSION);
+                outputStream.writeLong(fileKey.size);
+                outputStream.writeLong(fileKey.lastModified);
+                outputStream.write(fileKey.hash);
+                try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                    objectOutputStream.writeObject(config);
+                }
+            }
+            Files.createDirectories(this.directory);
+            FileManager.writeAtomically(snapshotPath, byteArrayOutputStream.toByteArray());
+        } catch (final IOException | RuntimeException ex) {
+            Constants.LOGGER.warn("Failed to write configuration snapshot " + snapshotPath.toAbsolutePath(), ex);
+        }
+
+    }
+
+    /**
+     * Snapshots are named after the file name and a hash of the absolute path so files with the same name in different
+     * directories don't collide.
+     */
+
+    @NotNull
+    private Path getSnapshotPath(@NotNull final Path path) {
+
+        final Path absolutePath = path.toAbsolutePath().normalize();
+        final byte[] pathHash;
+        try {
+            pathHash = MessageDigest.getInstance("SHA-256").digest(absolutePath.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final StringBuilder name = new StringBuilder().append(absolutePath.getFileName()).append('-');
+        for (int i = 0; i < 8; i++)
+            name.append(String.format("%02x", pathHash[i]));
+
+        return this.directory.resolve(name.append(SNAPSHOT_SUFFIX).toString());
+
+    }
+
+    @NotNull
+    public Path getDirectory() {
+
+        return this.directory;
+
+    }
+
+    private static final class FileKey {
+
+        private final long size;
+        private final long lastModified;
+        private final byte[] hash;
+
+        private FileKey(final long size, final long lastModified, final byte[] hash) {
+
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+
+        }
+
+        private static FileKey of(@NotNull final Path path) throws IOException {
+
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileKey(attributes.size(), attributes.lastModifiedTime().toMillis(), FileManager.hash(path));
+
+        }
+
+    }
+
+    /**
+     * Only allows classes of Typesafe Config to be deserialized from a snapshot.
+     */
+
+    private static final class ConfigObjectInputStream extends ObjectInputStream {
+
+        private static final String CONFIG_PACKAGE = Config.class.getPackage().getName() + ".";
+
+        private ConfigObjectInputStream(@NotNull final InputStream inputStream) throws IOException {
+
+            super(inputStream);
+
+        }
+
+        @Override
+        protected Class<?> resolveClass(@NotNull final ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+
+            if (!objectStreamClass.getName().startsWith(CONFIG_PACKAGE))
+                throw new InvalidClassException(objectStreamClass.getName(), "Unexpected class in configuration snapshot.");
+
+            return Class.forName(objectStreamClass.getName(), false, Config.class.getClassLoader());
+
+        }
+
+    }
+
+    /**
+     * Records whether the parsed file included any other file, URL or resource.
+     */
+
+    private static final class IncludeTracker implements ConfigIncluder, ConfigIncluderFile, ConfigIncluderURL, ConfigIncluderClasspath {
+
+        private final AtomicBoolean included;
+        private final ConfigIncluder fallback;
+
+        private IncludeTracker(@NotNull final AtomicBoolean included) {
+
+            this(included, null);
+
+        }
+
+        private IncludeTracker(@NotNull final AtomicBoolean included, @Nullable final ConfigIncluder fallback) {
+
+            this.included = included;
+            this.fallback = fallback;
+
+        }
+
+        @Override
+        public ConfigIncluder withFallback(final ConfigIncluder fallback) {
+
+            return new IncludeTracker(this.included, fallback);
+
+        }
+
+        @Override
+        public ConfigObject include(final ConfigIncludeContext context, final String what) {
+
+            this.included.set(true);
+            return this.fallback.include(context, what);
+
+        }
+
+        @Override
+        public ConfigObject includeFile(final ConfigIncludeContext context, final File what) {
+
+            this.included.set(true);
+            return ((ConfigIncluderFile) this.fallback).includeFile(context, what);
+
+        }
+
+        @Override
+        public ConfigObject includeURL(final ConfigIncludeContext context, final java.net.URL what) {
+
+            this.included.set(true);
+            return ((ConfigIncluderURL) this.fallback).includeURL(context, what);
+
+        }
+
+        @Override
+        public ConfigObject includeResources(final ConfigIncludeContext context, final String what) {
+
+            this.included.set(true);
+            return ((ConfigIncluderClasspath) this.fallback).includeResources(context, what);
+
+        }
+
+    }
+
+}
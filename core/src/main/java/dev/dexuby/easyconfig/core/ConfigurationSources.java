@@ -0,0 +1,179 @@
+package dev.dexuby.easyconfig.core;
+
+import com.typesafe.config.*;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The layered sources of a single configuration, merged through {@link Config#withFallback} with the precedence system
+ * properties, environment variables, configuration file, classpath resource. Values missing in every layer fall back to
+ * the field values. The environment and the classpath resource are only read once, system properties on every merge so
+ * changed properties are picked up by the next reload.
+ * <p>
+ * System properties override values below the prefix, <code>-Ddatabase.max-connections=5</code> for the prefix
+ * <code>database</code>. Environment variable names are the upper case prefix followed by the path where a single
+ * underscore separates path elements, two underscores stand for a dash and three for an underscore, e.g.
+ * <code>DATABASE_MAX__CONNECTIONS=5</code>. Overrides are always strings, they get converted to the field type.
+ */
+
+final class ConfigurationSources {
+
+    private final String prefix;
+    private final Config environment;
+    private final Config resource;
+
+    // Merged tree of the last load including the values written for missing paths.
+    private volatile Config config;
+
+    ConfigurationSources(@NotNull final Configuration configuration, @NotNull final ClassLoader classLoader) {
+
+        this.prefix = configuration.overridePrefix();
+        this.environment = this.prefix.isEmpty() ? ConfigFactory.empty() : parseEnvironment(this.prefix, System.getenv());
+        this.resource = configuration.resourceFallback()
+                ? ConfigFactory.parseResources(classLoader, configuration.fileName())
+                : ConfigFactory.empty();
+
+    }
+
+    /**
+     * Checks if the configuration has any layer next to its file.
+     *
+     * @return <code>true</code> if the file config has to be merged, <code>false</code> if it's used as it is.
+     */
+
+    boolean isLayered() {
+
+        return !this.prefix.isEmpty() || !this.resource.isEmpty();
+
+    }
+
+    /**
+     * Merges all layers with the provided file config.
+     *
+     * @param fileConfig The parsed configuration file or <code>null</code> if it doesn't exist.
+     * @return The merged config.
+     */
+
+    @NotNull
+    Config merge(@Nullable final Config fileConfig) {
+
+        Config config = this.prefix.isEmpty()
+                ? ConfigFactory.empty()
+                : parseSystemProperties(this.prefix, System.getProperties()).withFallback(this.environment);
+        if (fileConfig != null)
+            config = config.withFallback(fileConfig);
+
+        return config.withFallback(this.resource);
+
+    }
+
+    void setConfig(@NotNull final Config config) {
+
+        this.config = config;
+
+    }
+
+    @Nullable
+    Config getConfig() {
+
+        return this.config;
+
+    }
+
+    @NotNull
+    static Config parseSystemProperties(@NotNull final String prefix, @NotNull final Properties properties) {
+
+        final ConfigOrigin origin = ConfigOriginFactory.newSimple("system properties");
+        final String keyPrefix = prefix + '.';
+        Config config = ConfigFactory.empty();
+        for (final String key : properties.stringPropertyNames()) {
+            if (key.startsWith(keyPrefix))
+                config = withOverride(config, key.substring(keyPrefix.length()), properties.getProperty(key), origin);
+        }
+
+        return config;
+
+    }
+
+    @NotNull
+    static Config parseEnvironment(@NotNull final String prefix, @NotNull final Map<String, String> environment) {
+
+        final ConfigOrigin origin = ConfigOriginFactory.newSimple("environment variables");
+        final String namePrefix = prefix.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_') + '_';
+        Config config = ConfigFactory.empty();
+        for (final Map.Entry<String, String> entry : environment.entrySet()) {
+            if (!entry.getKey().startsWith(namePrefix))
+                continue;
+            final String path = toPath(entry.getKey().substring(namePrefix.length()));
+            if (path == null) {
+                Constants.LOGGER.warn("Ignoring environment variable " + entry.getKey() + " with more than three consecutive underscores.");
+                continue;
+            }
+            config = withOverride(config, path, entry.getValue(), origin);
+        }
+
+        return config;
+
+    }
+
+    @NotNull
+    private static Config withOverride(@NotNull final Config config, @NotNull final String path,
+                                       @NotNull final String value, @NotNull final ConfigOrigin origin) {
+
+        try {
+            return config.withValue(path, ConfigValueFactory.fromAnyRef(value).withOrigin(origin));
+        } catch (final ConfigException.BadPath ex) {
+            Constants.LOGGER.warn("Ignoring override of invalid path " + path + " from " + origin.description() + ".", ex);
+            return config;
+        }
+
+    }
+
+    /**
+     * Converts the suffix of an environment variable name into a path.
+     *
+     * @param name The name without the prefix.
+     * @return The path or <code>null</code> if the name contains more than three consecutive underscores.
+     */
+
+    @Nullable
+    static String toPath(@NotNull final String name) {
+
+        final StringBuilder builder = new StringBuilder(name.length());
+        int i = 0;
+        while (i < name.length()) {
+            final char c = name.charAt(i);
+            if (c != '_') {
+                builder.append(Character.toLowerCase(c));
+                i++;
+                continue;
+            }
+            int underscores = 0;
+            while (i < name.length() && name.charAt(i) == '_') {
+                underscores++;
+                i++;
+            }
+            switch (underscores) {
+                case 1:
+                    builder.append('.');
+                    break;
+                case 2:
+                    builder.append('-');
+                    break;
+                case 3:
+                    builder.append('_');
+                    break;
+                default:
+                    return null;
+            }
+        }
+
+        return builder.toString();
+
+    }
+
+}
@@ -13,4 +13,17 @@ public @interface ConfigurationValue {
 
     String description();
 
+    /**
+     * Format used to write map values, maps are read from both formats.
+     */
+
+    MapEncoding mapEncoding() default MapEncoding.ENTRY_LIST;
+
+    /**
+     * Whether the value gets deserialized on the first access instead of while loading, only applies to
+     * {@link dev.dexuby.easyconfig.core.common.Holder} fields.
+     */
+
+    boolean lazy() default false;
+
 }
@@ -0,0 +1,41 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+/**
+ * Emits JDK Flight Recorder events for loads, slow field bindings, saves and reload triggers. JFR isn't available on
+ * Java 8 so this variant is never created, on Java 11+ it gets replaced by its multi-release variant.
+ */
+
+final class FlightRecorderListener implements ConfigurationListener {
+
+    private FlightRecorderListener() {
+
+    }
+
+    /**
+     * Creates the listener if JFR is available on the running JVM.
+     *
+     * @return The listener or <code>null</code> if JFR isn't available.
+     */
+
+    @Nullable
+    static FlightRecorderListener create() {
+
+        return null;
+
+    }
+
+    /**
+     * Checks if any recording is running that might be interested in the events.
+     *
+     * @return <code>true</code> if events may be recorded, <code>false</code> otherwise.
+     */
+
+    boolean isEnabled() {
+
+        return false;
+
+    }
+
+}
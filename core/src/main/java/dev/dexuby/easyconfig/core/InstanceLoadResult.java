@@ -0,0 +1,71 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Result of loading instances of an instance scoped configuration. Every key maps to its loaded instance, instances
+ * with single failed values are still loaded and additionally reported in the failures.
+ *
+ * @param <K> The key type, for example a tenant id.
+ * @param <T> The configuration type.
+ */
+
+public final class InstanceLoadResult<K, T> {
+
+    private final Map<K, T> instances = new ConcurrentHashMap<>();
+    private final Map<K, List<Throwable>> failures = new ConcurrentHashMap<>();
+
+    void addInstance(@NotNull final K key, @NotNull final T instance) {
+
+        this.instances.put(key, instance);
+
+    }
+
+    void addFailure(@NotNull final K key, @NotNull final Throwable throwable) {
+
+        this.failures.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(throwable);
+
+    }
+
+    /**
+     * Returns all loaded instances.
+     *
+     * @return The instances mapped by key.
+     */
+
+    @NotNull
+    public Map<K, T> getInstances() {
+
+        return Collections.unmodifiableMap(this.instances);
+
+    }
+
+    /**
+     * Returns the failures of every instance that didn't load cleanly.
+     *
+     * @return The failures mapped by key.
+     */
+
+    @NotNull
+    public Map<K, List<Throwable>> getFailures() {
+
+        return Collections.unmodifiableMap(this.failures);
+
+    }
+
+    /**
+     * Checks if all instances loaded without any failure.
+     *
+     * @return <code>true</code> if there were no failures, <code>false</code> otherwise.
+     */
+
+    public boolean isSuccessful() {
+
+        return this.failures.isEmpty();
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package dev.dexuby.easyconfig.core;
+
+/**
+ * Format used to write map values to a configuration file.
+ */
+
+public enum MapEncoding {
+
+    /**
+     * A list of objects with a <code>key</code> and a <code>value</code> entry, supports any key type.
+     */
+    ENTRY_LIST,
+
+    /**
+     * A native object with one <code>key = value</code> entry per map entry. Keys have to be strings, numbers,
+     * booleans, characters, enums or use a serializer that serializes them to strings.
+     */
+    OBJECT
+
+}
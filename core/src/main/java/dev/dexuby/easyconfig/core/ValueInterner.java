@@ -0,0 +1,354 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of canonical value instances used while binding configurations. Every value read from a parsed config is
+ * a fresh instance, so equal strings, boxed numbers and small collections of many configuration files are stored once
+ * per file. The interner replaces them with one canonical instance, entries are only weakly referenced so values that
+ * are no longer bound by any configuration can still be collected.
+ * <p>
+ * The pool stops accepting new values once it reached its maximum size, values are then returned as they are.
+ */
+
+public final class ValueInterner {
+
+    private static final int SEGMENTS = 16;
+    private static final int DEFAULT_MAXIMUM_SIZE = 65536;
+    private static final int DEFAULT_MAXIMUM_COLLECTION_SIZE = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final int maximumSegmentSize;
+    private final int maximumCollectionSize;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Creates an interner holding up to 65536 values that interns collections and maps with up to 16 entries.
+     */
+
+    public ValueInterner() {
+
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_COLLECTION_SIZE);
+
+    }
+
+    /**
+     * @param maximumSize           The maximum number of pooled values.
+     * @param maximumCollectionSize The maximum number of entries of collections and maps that get interned.
+     */
+
+    public ValueInterner(final int maximumSize, final int maximumCollectionSize) {
+
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("Maximum size must be positive.");
+        this.maximumSegmentSize = Math.max(1, maximumSize / SEGMENTS);
+        this.maximumCollectionSize = maximumCollectionSize;
+        for (int i = 0; i < SEGMENTS; i++)
+            this.segments[i] = new Segment();
+
+    }
+
+    /**
+     * Returns the canonical instance of the provided string, boxed number or character. The elements, keys and values
+     * of modifiable collections, maps and object arrays are interned in place, the container itself is returned
+     * unchanged. All other values are returned as they are.
+     *
+     * @param value The value.
+     * @param <T>   The type.
+     * @return The canonical value.
+     */
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T intern(@Nullable final T value) {
+
+        if (value == null)
+            return null;
+        if (value instanceof String || value instanceof Number && isInternable((Number) value) || value instanceof Character)
+            return this.canonicalize(value);
+        if (value instanceof List) {
+            this.internElements((List<Object>) value);
+        } else if (value instanceof Collection) {
+            this.internElements((Collection<Object>) value);
+        } else if (value instanceof Map) {
+            this.internEntries((Map<Object, Object>) value);
+        } else if (value instanceof Object[]) {
+            final Object[] array = (Object[]) value;
+            for (int i = 0; i < array.length; i++)
+                array[i] = this.intern(array[i]);
+        }
+
+        return value;
+
+    }
+
+    /**
+     * Returns the canonical instance of an immutable collection or map if it has at most the maximum collection size
+     * of entries, the caller has to ensure that the value is never modified.
+     *
+     * @param value The immutable collection or map.
+     * @param <T>   The type.
+     * @return The canonical value.
+     */
+
+    @NotNull
+    public <T> T internImmutable(@NotNull final T value) {
+
+        final int size;
+        if (value instanceof Collection) {
+            size = ((Collection<?>) value).size();
+        } else if (value instanceof Map) {
+            size = ((Map<?, ?>) value).size();
+        } else {
+            return this.intern(value);
+        }
+
+        return size <= this.maximumCollectionSize ? this.canonicalize(value) : value;
+
+    }
+
+    private void internElements(@NotNull final List<Object> list) {
+
+        try {
+            list.replaceAll(this::intern);
+        } catch (final UnsupportedOperationException ignored) {
+            // Unmodifiable lists keep their elements.
+        }
+
+    }
+
+    private void internElements(@NotNull final Collection<Object> collection) {
+
+        final Object[] elements = collection.toArray();
+        boolean changed = false;
+        for (int i = 0; i < elements.length; i++) {
+            final Object element = this.intern(elements[i]);
+            changed |= element != elements[i];
+            elements[i] = element;
+        }
+        if (!changed) return;
+
+        try {
+            // Elements can't be replaced in place, the collection gets refilled with the canonical elements instead.
+            collection.clear();
+            Collections.addAll(collection, elements);
+        } catch (final UnsupportedOperationException ignored) {
+            // Unmodifiable collections keep their elements.
+        }
+
+    }
+
+    private void internEntries(@NotNull final Map<Object, Object> map) {
+
+        final Object[] keys = new Object[map.size()];
+        final Object[] values = new Object[keys.length];
+        boolean changed = false;
+        int i = 0;
+        for (final Map.Entry<Object, Object> entry : map.entrySet()) {
+            keys[i] = this.intern(entry.getKey());
+            values[i] = this.intern(entry.getValue());
+            changed |= keys[i] != entry.getKey() || values[i] != entry.getValue();
+            i++;
+        }
+        if (!changed) return;
+
+        try {
+            // Keys can't be replaced in place, the map gets refilled with the canonical entries instead.
+            map.clear();
+            for (i = 0; i < keys.length; i++)
+                map.put(keys[i], values[i]);
+        } catch (final UnsupportedOperationException ignored) {
+            // Unmodifiable maps keep their entries.
+        }
+
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <T> T canonicalize(@NotNull final T value) {
+
+        this.lookups.increment();
+        final int hash = value.hashCode();
+        final Segment segment = this.segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            final WeakReference<Object> reference = segment.entries.get(value);
+            final Object canonical = reference != null ? reference.get() : null;
+            if (canonical != null) {
+                if (canonical != value) {
+                    this.hits.increment();
+                    this.bytesSaved.add(estimateSize(value));
+                }
+                return (T) canonical;
+            }
+            if (segment.entries.size() < this.maximumSegmentSize)
+                segment.entries.put(value, new WeakReference<>(value));
+        }
+
+        return value;
+
+    }
+
+    /**
+     * Creates a report of the current pool size and the values deduplicated so far.
+     *
+     * @return The report.
+     */
+
+    @NotNull
+    public Report getReport() {
+
+        int entries = 0;
+        for (final Segment segment : this.segments) {
+            synchronized (segment) {
+                entries += segment.entries.size();
+            }
+        }
+
+        return new Report(entries, this.lookups.sum(), this.hits.sum(), this.bytesSaved.sum());
+
+    }
+
+    /**
+     * Removes all pooled values and resets the statistics.
+     */
+
+    public void clear() {
+
+        for (final Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+            }
+        }
+        this.lookups.reset();
+        this.hits.reset();
+        this.bytesSaved.reset();
+
+    }
+
+    private static boolean isInternable(@NotNull final Number number) {
+
+        return number instanceof Integer || number instanceof Long || number instanceof Double || number instanceof Float
+                || number instanceof Short || number instanceof Byte || number instanceof BigInteger || number instanceof BigDecimal;
+
+    }
+
+    /**
+     * Estimates the shallow size of a duplicate that has been replaced, assuming compressed references and compact
+     * strings. Duplicate collections only count their wrapper and element references since the elements are interned
+     * on their own.
+     */
+
+    private static long estimateSize(@NotNull final Object value) {
+
+        if (value instanceof String) {
+            final String string = (String) value;
+            boolean latin1 = true;
+            for (int i = 0; i < string.length() && latin1; i++)
+                latin1 = string.charAt(i) <= 0xFF;
+            return 24 + align(16 + (long) string.length() * (latin1 ? 1 : 2));
+        }
+        if (value instanceof Long || value instanceof Double)
+            return 24;
+        if (value instanceof BigInteger || value instanceof BigDecimal)
+            return 56;
+        if (value instanceof Collection)
+            return 48 + align(16 + 4L * ((Collection<?>) value).size());
+        if (value instanceof Map)
+            return 64 + 32L * ((Map<?, ?>) value).size();
+
+        return 16;
+
+    }
+
+    private static long align(final long size) {
+
+        return (size + 7) & ~7L;
+
+    }
+
+    private static final class Segment {
+
+        private final Map<Object, WeakReference<Object>> entries = new WeakHashMap<>();
+
+    }
+
+    /**
+     * Snapshot of the interner statistics.
+     */
+
+    public static final class Report {
+
+        private final int entries;
+        private final long lookups;
+        private final long hits;
+        private final long bytesSaved;
+
+        private Report(final int entries, final long lookups, final long hits, final long bytesSaved) {
+
+            this.entries = entries;
+            this.lookups = lookups;
+            this.hits = hits;
+            this.bytesSaved = bytesSaved;
+
+        }
+
+        /**
+         * @return The number of pooled values that are still referenced.
+         */
+
+        public int getEntries() {
+
+            return this.entries;
+
+        }
+
+        /**
+         * @return The number of values that have been looked up.
+         */
+
+        public long getLookups() {
+
+            return this.lookups;
+
+        }
+
+        /**
+         * @return The number of duplicates that have been replaced by their canonical instance.
+         */
+
+        public long getHits() {
+
+            return this.hits;
+
+        }
+
+        /**
+         * @return The estimated number of heap bytes saved by replacing duplicates.
+         */
+
+        public long getBytesSaved() {
+
+            return this.bytesSaved;
+
+        }
+
+        @Override
+        public String toString() {
+
+            return "Interned " + this.entries + " values, replaced " + this.hits + " of " + this.lookups
+                    + " looked up values with their canonical instance saving approximately " + this.bytesSaved / 1024 + " KiB.";
+
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SHA-256 fingerprint of a config value tree. Large lists and objects are remembered by their fingerprint instead of
+ * the value itself so the parsed tree doesn't stay on the heap next to the decoded collection after a load.
+ */
+
+final class ConfigValueFingerprint {
+
+    // Lists and objects with at least this many entries are fingerprinted.
+    static final int THRESHOLD = 1024;
+
+    private final byte[] hash;
+
+    private ConfigValueFingerprint(final byte[] hash) {
+
+        this.hash = hash;
+
+    }
+
+    /**
+     * Returns the value that represents the provided config value for change detection, either the config value
+     * itself or a fingerprint for large lists and objects.
+     *
+     * @param configValue The config value.
+     * @return The config value or its fingerprint.
+     */
+
+    @NotNull
+    static Object of(@NotNull final ConfigValue configValue) {
+
+        final int size;
+        if (configValue instanceof ConfigList) {
+            size = ((ConfigList) configValue).size();
+        } else if (configValue instanceof ConfigObject) {
+            size = ((ConfigObject) configValue).size();
+        } else {
+            return configValue;
+        }
+        if (size < THRESHOLD)
+            return configValue;
+
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        update(messageDigest, configValue);
+
+        return new ConfigValueFingerprint(messageDigest.digest());
+
+    }
+
+    /**
+     * Feeds a canonical form of the value into the digest: a type tag followed by the length prefixed content, object
+     * keys in sorted order. Numbers that compare equal with a different representation (1 and 1.0) produce different
+     * fingerprints which only causes an unnecessary read.
+     */
+
+    private static void update(@NotNull final MessageDigest messageDigest, @NotNull final ConfigValue configValue) {
+
+        messageDigest.update((byte) configValue.valueType().ordinal());
+        switch (configValue.valueType()) {
+            case LIST:
+                final ConfigList configList = (ConfigList) configValue;
+                updateInt(messageDigest, configList.size());
+                for (final ConfigValue element : configList)
+                    update(messageDigest, element);
+                break;
+            case OBJECT:
+                final ConfigObject configObject = (ConfigObject) configValue;
+                updateInt(messageDigest, configObject.size());
+                for (final Map.Entry<String, ConfigValue> entry : new TreeMap<>(configObject).entrySet()) {
+                    updateString(messageDigest, entry.getKey());
+                    update(messageDigest, entry.getValue());
+                }
+                break;
+            case NULL:
+                break;
+            default:
+                updateString(messageDigest, String.valueOf(configValue.unwrapped()));
+        }
+
+    }
+
+    private static void updateString(@NotNull final MessageDigest messageDigest, @NotNull final String value) {
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateInt(messageDigest, bytes.length);
+        messageDigest.update(bytes);
+
+    }
+
+    private static void updateInt(@NotNull final MessageDigest messageDigest, final int value) {
+
+        messageDigest.update((byte) (value >>> 24));
+        messageDigest.update((byte) (value >>> 16));
+        messageDigest.update((byte) (value >>> 8));
+        messageDigest.update((byte) value);
+
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) return true;
+        if (!(obj instanceof ConfigValueFingerprint)) return false;
+        return Arrays.equals(this.hash, ((ConfigValueFingerprint) obj).hash);
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Arrays.hashCode(this.hash);
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Binder of a {@link dev.dexuby.easyconfig.core.Configuration} class generated at compile time by the
+ * <code>easy-config-processor</code>. It lists the annotated fields of the class so they don't have to be scanned at
+ * runtime and provides accessors for all fields. Fields that are accessible from the package of the class are read and
+ * written directly, all others through method handles, see {@link FieldHandles}.
+ */
+
+public interface ConfigurationBinder {
+
+    /**
+     * Suffix of generated binder classes.
+     */
+
+    String BINDER_SUFFIX = "_EasyConfigBinder";
+
+    /**
+     * Returns the annotated fields of the configuration class in declaration order.
+     *
+     * @return The bound fields.
+     */
+
+    @NotNull
+    List<BoundField> getFields();
+
+    /**
+     * Returns the binary name of the generated binder of the provided configuration class, nested classes get
+     * flattened by replacing <code>$</code> with <code>_</code>.
+     *
+     * @param type The configuration class.
+     * @return The binder class name.
+     */
+
+    @NotNull
+    static String getBinderName(@NotNull final Class<?> type) {
+
+        final String name = type.getName();
+        final int packageEnd = name.lastIndexOf('.');
+        final String packagePrefix = packageEnd == -1 ? "" : name.substring(0, packageEnd + 1);
+        return packagePrefix + name.substring(packageEnd + 1).replace('$', '_') + BINDER_SUFFIX;
+
+    }
+
+    /**
+     * Single annotated field of a generated binder.
+     */
+
+    final class BoundField {
+
+        private final String name;
+        private final String path;
+        private final String description;
+        private final FieldAccessor accessor;
+
+        public BoundField(@NotNull final String name,
+                          @NotNull final String path,
+                          @NotNull final String description,
+                          @Nullable final FieldAccessor accessor) {
+
+            this.name = name;
+            this.path = path;
+            this.description = description;
+            this.accessor = accessor;
+
+        }
+
+        public String getName() {
+
+            return this.name;
+
+        }
+
+        public String getPath() {
+
+            return this.path;
+
+        }
+
+        public String getDescription() {
+
+            return this.description;
+
+        }
+
+        /**
+         * Returns the generated accessor of the field.
+         *
+         * @return The accessor or <code>null</code> if the field isn't accessible from generated code.
+         */
+
+        @Nullable
+        public FieldAccessor getAccessor() {
+
+            return this.accessor;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationSnapshot;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled binding plan of a {@link Configuration} class. Created once per class by the
+ * {@link dev.dexuby.easyconfig.core.ConfigurationResolver} and re-used on every reload. Static fields are bound to the
+ * class itself while instance fields are bound to every loaded instance of the class.
+ */
+
+public final class ConfigurationBinding {
+
+    private final Class<?> type;
+    private final Configuration configuration;
+    private final File file;
+    private final List<FieldBinding> fieldBindings;
+    private final List<FieldBinding> staticFieldBindings;
+    private final List<FieldBinding> instanceFieldBindings;
+
+    // Last published snapshot of snapshot configurations.
+    private volatile ConfigurationSnapshot snapshot;
+
+    public ConfigurationBinding(@NotNull final Class<?> type,
+                                @NotNull final Configuration configuration,
+                                @NotNull final File file,
+                                @NotNull final List<FieldBinding> fieldBindings) {
+
+        this.type = type;
+        this.configuration = configuration;
+        this.file = file;
+        this.fieldBindings = Collections.unmodifiableList(fieldBindings);
+        final List<FieldBinding> staticFieldBindings = new ArrayList<>();
+        final List<FieldBinding> instanceFieldBindings = new ArrayList<>();
+        for (final FieldBinding fieldBinding : fieldBindings)
+            (fieldBinding.isStatic() ? staticFieldBindings : instanceFieldBindings).add(fieldBinding);
+        this.staticFieldBindings = Collections.unmodifiableList(staticFieldBindings);
+        this.instanceFieldBindings = Collections.unmodifiableList(instanceFieldBindings);
+
+    }
+
+    public Class<?> getType() {
+
+        return this.type;
+
+    }
+
+    public Configuration getConfiguration() {
+
+        return this.configuration;
+
+    }
+
+    public File getFile() {
+
+        return this.file;
+
+    }
+
+    public List<FieldBinding> getFieldBindings() {
+
+        return this.fieldBindings;
+
+    }
+
+    public List<FieldBinding> getStaticFieldBindings() {
+
+        return this.staticFieldBindings;
+
+    }
+
+    public List<FieldBinding> getInstanceFieldBindings() {
+
+        return this.instanceFieldBindings;
+
+    }
+
+    /**
+     * Publishes the provided snapshot, readers see either the previous or the new snapshot as a whole.
+     *
+     * @param snapshot The snapshot.
+     */
+
+    public void setSnapshot(@NotNull final ConfigurationSnapshot snapshot) {
+
+        this.snapshot = snapshot;
+
+    }
+
+    @Nullable
+    public ConfigurationSnapshot getSnapshot() {
+
+        return this.snapshot;
+
+    }
+
+    /**
+     * Checks if the configuration only declares instance fields and therefore has to be loaded per instance.
+     *
+     * @return <code>true</code> if the configuration is instance scoped, <code>false</code> otherwise.
+     */
+
+    public boolean isInstanceScoped() {
+
+        return this.staticFieldBindings.isEmpty() && !this.instanceFieldBindings.isEmpty();
+
+    }
+
+}
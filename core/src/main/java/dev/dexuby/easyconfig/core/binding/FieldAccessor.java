@@ -0,0 +1,33 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+/**
+ * Reads and writes the value of a single field. Instances are obtained through {@link FieldAccessors#of} and are
+ * cached per field.
+ */
+
+public interface FieldAccessor {
+
+    /**
+     * Returns the current value of the field.
+     *
+     * @param target The owning instance or <code>null</code> for static fields.
+     * @return The field value.
+     * @throws IllegalAccessException If the field couldn't be read.
+     */
+
+    @Nullable
+    Object get(@Nullable final Object target) throws IllegalAccessException;
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param target The owning instance or <code>null</code> for static fields.
+     * @param value  The value.
+     * @throws IllegalAccessException If the field couldn't be written, for example because it is final.
+     */
+
+    void set(@Nullable final Object target, @Nullable final Object value) throws IllegalAccessException;
+
+}
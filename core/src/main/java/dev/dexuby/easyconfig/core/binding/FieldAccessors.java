@@ -0,0 +1,76 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates and caches {@link FieldAccessor} instances. The cache is attached to the declaring class so it doesn't keep
+ * classes of unloaded class loaders alive. Fields without a registered accessor of a generated binder are accessed
+ * through reflection.
+ */
+
+public final class FieldAccessors {
+
+    private static final ClassValue<Map<Field, FieldAccessor>> ACCESSORS = new ClassValue<Map<Field, FieldAccessor>>() {
+
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(final Class<?> type) {
+
+            return new ConcurrentHashMap<>();
+
+        }
+
+    };
+
+    private FieldAccessors() {
+
+    }
+
+    /**
+     * Returns the cached accessor of the provided field, creating it on first access.
+     *
+     * @param field The field.
+     * @return The accessor.
+     */
+
+    @NotNull
+    public static FieldAccessor of(@NotNull final Field field) {
+
+        return ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field, FieldAccessors::create);
+
+    }
+
+    /**
+     * Registers an externally created accessor, like one of a generated binder, if no accessor of the field has been
+     * created yet.
+     *
+     * @param field    The field.
+     * @param accessor The accessor.
+     * @return The accessor that is used for the field from now on.
+     */
+
+    @NotNull
+    public static FieldAccessor register(@NotNull final Field field, @NotNull final FieldAccessor accessor) {
+
+        final FieldAccessor existing = ACCESSORS.get(field.getDeclaringClass()).putIfAbsent(field, accessor);
+        return existing == null ? accessor : existing;
+
+    }
+
+    @NotNull
+    private static FieldAccessor create(@NotNull final Field field) {
+
+        try {
+            field.setAccessible(true);
+        } catch (final RuntimeException ignored) {
+            // Fall back to the regular access checks.
+        }
+
+        return new ReflectionFieldAccessor(field);
+
+    }
+
+}
@@ -0,0 +1,570 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigOrigin;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import com.typesafe.config.ConfigValueType;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.Constants;
+import dev.dexuby.easyconfig.core.ValueInterner;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.Subscribable;
+import dev.dexuby.easyconfig.core.serialization.ConfigurationSerializable;
+import dev.dexuby.easyconfig.core.serialization.handler.GenericTypeHandler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Compiled binding of a single {@link dev.dexuby.easyconfig.core.ConfigurationValue} field. Everything that only
+ * depends on the field declaration and the registered handlers / serializers is resolved once when the binding is
+ * created, reading and writing only executes the resolved steps.
+ */
+
+public final class FieldBinding {
+
+    // Key used to convert single config values through the typed getters of a config.
+    private static final String VALUE_KEY = "value";
+
+    private final Field field;
+    private final Class<?> owner;
+    private final String path;
+    private final String description;
+    private final boolean holder;
+    private final Class<?> valueType;
+    private final GenericTypeHandler genericTypeHandler;
+    private final ConfigurationSerializable<?> serializer;
+    private final boolean lazy;
+    private final FieldAccessor accessor;
+    private final PrimitiveHolderType primitiveHolderType;
+
+    // Config value or fingerprint of the last successful read, used to skip unchanged values on reload.
+    private volatile Object boundValue;
+
+    public FieldBinding(@NotNull final Field field,
+                        @NotNull final Class<?> owner,
+                        @NotNull final String path,
+                        @NotNull final String description,
+                        final boolean holder,
+                        @NotNull final Class<?> valueType,
+                        @Nullable final GenericTypeHandler genericTypeHandler,
+                        @Nullable final ConfigurationSerializable<?> serializer) {
+
+        this(field, owner, path, description, holder, valueType, genericTypeHandler, serializer, false);
+
+    }
+
+    /**
+     * @param lazy Whether the value gets deserialized on the first {@link Holder#get()} call instead of while reading,
+     *             only applies to {@link Holder} fields.
+     */
+
+    public FieldBinding(@NotNull final Field field,
+                        @NotNull final Class<?> owner,
+                        @NotNull final String path,
+                        @NotNull final String description,
+                        final boolean holder,
+                        @NotNull final Class<?> valueType,
+                        @Nullable final GenericTypeHandler genericTypeHandler,
+                        @Nullable final ConfigurationSerializable<?> serializer,
+                        final boolean lazy) {
+
+        this.field = field;
+        this.owner = owner;
+        this.path = path;
+        this.description = description;
+        this.holder = holder;
+        this.valueType = valueType;
+        this.genericTypeHandler = genericTypeHandler;
+        this.serializer = serializer;
+        this.lazy = lazy && holder;
+        this.accessor = FieldAccessors.of(field);
+        this.primitiveHolderType = PrimitiveHolderType.of(field.getType());
+
+    }
+
+    /**
+     * Reads the value at the bound path from the provided config and sets it to the bound field. Lazy bindings only
+     * store the config value in the holder, it gets deserialized on the first access.
+     *
+     * @param config The config.
+     * @throws ReflectiveOperationException If the value couldn't be set.
+     */
+
+    public void read(@NotNull final Config config) throws ReflectiveOperationException {
+
+        this.read(config, (ValueInterner) null);
+
+    }
+
+    /**
+     * Reads the value at the bound path from the provided config and sets it to the bound field, replacing strings,
+     * numbers and the elements of collections with their canonical instances of the provided interner.
+     *
+     * @param config   The config.
+     * @param interner The interner or <code>null</code> to keep the values as they are.
+     * @throws ReflectiveOperationException If the value couldn't be set.
+     */
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void read(@NotNull final Config config, @Nullable final ValueInterner interner) throws ReflectiveOperationException {
+
+        if (this.primitiveHolderType != null) {
+            this.primitiveHolderType.read(this.accessor.get(null), config, this.path);
+            return;
+        }
+        if (this.lazy) {
+            final ConfigValue configValue = config.getValue(this.path);
+            ((Holder) this.accessor.get(null)).setLazy(() -> this.decodeLazily(configValue, interner));
+            return;
+        }
+        if (this.genericTypeHandler != null) {
+            this.genericTypeHandler.readAndSet(config, this.path);
+            if (interner != null) {
+                // Handlers fill the field directly, the elements are interned in place afterwards.
+                final Object fieldValue = this.accessor.get(null);
+                interner.intern(this.holder ? ((Holder<?>) fieldValue).get() : fieldValue);
+            }
+            return;
+        }
+
+        final ConfigValue configValue = config.getValue(this.path);
+        final Object value = this.serializer != null ? this.serializer.deserialize(configValue) : this.unwrap(configValue);
+        this.setValue(null, interner != null ? interner.intern(value) : value);
+
+    }
+
+    /**
+     * Reads the value at the bound path like {@link #read(Config)} but only if the config value changed since the last
+     * successful read. Config values compare structurally so comments and origins are ignored, large lists and objects
+     * are only remembered by their fingerprint.
+     *
+     * @param config The config.
+     * @return <code>true</code> if the field has been updated, <code>false</code> if the value didn't change.
+     * @throws ReflectiveOperationException If the value couldn't be set.
+     */
+
+    public boolean readIfChanged(@NotNull final Config config) throws ReflectiveOperationException {
+
+        return this.readIfChanged(config, null);
+
+    }
+
+    /**
+     * Reads the value at the bound path like {@link #read(Config, ValueInterner)} but only if the config value changed
+     * since the last successful read.
+     *
+     * @param config   The config.
+     * @param interner The interner or <code>null</code> to keep the values as they are.
+     * @return <code>true</code> if the field has been updated, <code>false</code> if the value didn't change.
+     * @throws ReflectiveOperationException If the value couldn't be set.
+     */
+
+    public boolean readIfChanged(@NotNull final Config config, @Nullable final ValueInterner interner) throws ReflectiveOperationException {
+
+        final Object boundValue = ConfigValueFingerprint.of(config.getValue(this.path));
+        if (boundValue.equals(this.boundValue))
+            return false;
+
+        this.read(config, interner);
+        this.boundValue = boundValue;
+        return true;
+
+    }
+
+    /**
+     * Forgets the last read config value so the next {@link #readIfChanged(Config)} call always reads.
+     */
+
+    public void invalidate() {
+
+        this.boundValue = null;
+
+    }
+
+    /**
+     * Takes over the last read config value of a previous binding of the same field so a rebuilt binding plan only
+     * reads values again whose decoding may have changed. Bindings with a generic type handler never take it over
+     * since their handler and element codecs are created anew with every plan.
+     *
+     * @param previous The binding of the previous plan.
+     * @return <code>true</code> if the state has been taken over, <code>false</code> if the value has to be read again.
+     */
+
+    public boolean inherit(@NotNull final FieldBinding previous) {
+
+        if (!this.field.equals(previous.field) || this.lazy != previous.lazy || this.serializer != previous.serializer
+                || this.genericTypeHandler != null || previous.genericTypeHandler != null)
+            return false;
+
+        this.boundValue = previous.boundValue;
+        return true;
+
+    }
+
+    /**
+     * Reads the value at the bound path from the provided config into the bound field of the provided configuration
+     * instance. Equal values of all instances read with the same shared values are only decoded once, see
+     * {@link SharedValues}.
+     *
+     * @param config       The config.
+     * @param target       The configuration instance.
+     * @param sharedValues The values shared between instances.
+     * @throws ReflectiveOperationException If the value couldn't be set.
+     */
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void read(@NotNull final Config config, @NotNull final Object target, @NotNull final SharedValues sharedValues) throws ReflectiveOperationException {
+
+        if (this.primitiveHolderType != null) {
+            this.primitiveHolderType.read(this.accessor.get(target), config, this.path);
+            return;
+        }
+
+        final ConfigValue configValue = config.getValue(this.path);
+        if (this.lazy) {
+            ((Holder) this.accessor.get(target)).setLazy(() -> this.decodeLazily(configValue, sharedValues.getValueInterner()));
+            return;
+        }
+
+        final Object value = sharedValues.get(this, configValue);
+        if (this.holder) {
+            ((Holder) this.accessor.get(target)).set(value);
+        } else {
+            this.accessor.set(target, value);
+        }
+
+    }
+
+    /**
+     * Converts the provided config value into a new value of the bound type without setting the field.
+     *
+     * @param configValue The config value.
+     * @return The converted value.
+     */
+
+    @Nullable
+    Object decode(@NotNull final ConfigValue configValue) {
+
+        if (this.genericTypeHandler != null)
+            return this.genericTypeHandler.decode(configValue);
+        if (this.serializer != null)
+            return this.serializer.deserialize(configValue);
+        return this.unwrap(configValue);
+
+    }
+
+    /**
+     * Unwraps the provided config value, strings, numbers and booleans are converted into the bound type like the typed
+     * getters of {@link Config} do, e.g. for string values of system properties bound to a number.
+     *
+     * @param configValue The config value.
+     * @return The unwrapped value.
+     */
+
+    @Nullable
+    private Object unwrap(@NotNull final ConfigValue configValue) {
+
+        final ConfigValueType configValueType = configValue.valueType();
+        if (configValueType == ConfigValueType.NULL || configValueType == ConfigValueType.OBJECT || configValueType == ConfigValueType.LIST)
+            return configValue.unwrapped();
+        final Class<?> valueType = this.valueType;
+        if (valueType == String.class && configValueType != ConfigValueType.STRING)
+            return configValue.atKey(VALUE_KEY).getString(VALUE_KEY);
+        if (configValueType == ConfigValueType.STRING || configValueType == ConfigValueType.NUMBER) {
+            if (valueType == Integer.class || valueType == int.class)
+                return configValue.atKey(VALUE_KEY).getInt(VALUE_KEY);
+            if (valueType == Long.class || valueType == long.class)
+                return configValue.atKey(VALUE_KEY).getLong(VALUE_KEY);
+            if (valueType == Double.class || valueType == double.class)
+                return configValue.atKey(VALUE_KEY).getDouble(VALUE_KEY);
+        }
+        if (configValueType == ConfigValueType.STRING && (valueType == Boolean.class || valueType == boolean.class))
+            return configValue.atKey(VALUE_KEY).getBoolean(VALUE_KEY);
+
+        return configValue.unwrapped();
+
+    }
+
+    @Nullable
+    private Object decodeLazily(@NotNull final ConfigValue configValue, @Nullable final ValueInterner interner) {
+
+        try {
+            final Object value = this.decode(configValue);
+            return interner != null ? interner.intern(value) : value;
+        } catch (final RuntimeException ex) {
+            Constants.LOGGER.error("Failed to lazily read value " + this.path + " of configuration " + this.owner.getName(), ex);
+            throw ex;
+        }
+
+    }
+
+    /**
+     * Returns a fingerprint of the config value at the bound path. Fingerprints of structurally equal config values are
+     * equal, large lists and objects are only represented by their hash.
+     *
+     * @param config The config.
+     * @return The fingerprint.
+     */
+
+    @NotNull
+    public Object fingerprint(@NotNull final Config config) {
+
+        return ConfigValueFingerprint.of(config.getValue(this.path));
+
+    }
+
+    /**
+     * Converts the value at the bound path into a new value of the bound type without setting the field. Collections
+     * and maps are wrapped into unmodifiable views if the bound type allows it, arrays stay modifiable.
+     *
+     * @param config   The config.
+     * @param interner The interner or <code>null</code> to keep the values as they are.
+     * @return The converted value.
+     */
+
+    @Nullable
+    public Object decodeImmutable(@NotNull final Config config, @Nullable final ValueInterner interner) {
+
+        if (this.primitiveHolderType != null)
+            return this.primitiveHolderType.decode(config, this.path);
+        final Object value = this.decode(config.getValue(this.path));
+
+        return SharedValues.unmodifiable(interner != null ? interner.intern(value) : value, this.valueType);
+
+    }
+
+    /**
+     * Sets the provided value to the bound field, holders are updated instead of being replaced.
+     *
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @param value  The value, boxed for primitive holders.
+     * @throws IllegalAccessException If the field couldn't be accessed.
+     */
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setValue(@Nullable final Object target, @Nullable final Object value) throws IllegalAccessException {
+
+        if (this.primitiveHolderType != null) {
+            this.primitiveHolderType.set(this.accessor.get(target), value);
+        } else if (this.holder) {
+            ((Holder) this.accessor.get(target)).set(value);
+        } else {
+            this.accessor.set(target, value);
+        }
+
+    }
+
+    /**
+     * Returns the current value of the bound field, holders are unwrapped and a pending lazy value gets computed.
+     *
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @return The current value or <code>null</code> if the holder has neither a value nor a default value.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    @Nullable
+    public Object getValue(@Nullable final Object target) throws IllegalAccessException {
+
+        final Object fieldValue = this.accessor.get(target);
+        if (this.primitiveHolderType != null)
+            return this.primitiveHolderType.toConfigValue(fieldValue).unwrapped();
+        if (!this.holder || fieldValue == null)
+            return fieldValue;
+        final Holder<?> holder = (Holder<?>) fieldValue;
+        return holder.isPresent() ? holder.get() : null;
+
+    }
+
+    /**
+     * Returns the current value of the bound field like {@link #getValue(Object)} without computing a pending lazy
+     * value.
+     *
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @return The current value or <code>null</code> if a lazy value is pending or the holder has neither a value nor a
+     * default value.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    @Nullable
+    public Object peekValue(@Nullable final Object target) throws IllegalAccessException {
+
+        final Object fieldValue = this.accessor.get(target);
+        if (this.holder && this.primitiveHolderType == null && fieldValue != null)
+            return ((Holder<?>) fieldValue).peek();
+
+        return this.getValue(target);
+
+    }
+
+    /**
+     * Checks if the bound field has a value that can be written to a config, holders without a value and default value
+     * have none.
+     *
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @return <code>true</code> if the value can be converted through {@link #toConfigValue}, <code>false</code>
+     * otherwise.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    public boolean hasValue(@Nullable final Object target) throws IllegalAccessException {
+
+        if (!this.holder || this.primitiveHolderType != null)
+            return true;
+        final Holder<?> holder = (Holder<?>) this.accessor.get(target);
+        return holder != null && holder.isPresent();
+
+    }
+
+    /**
+     * Returns the holder of the bound field.
+     *
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @return The holder or <code>null</code> if the field isn't a {@link Holder}.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    @Nullable
+    public Holder<?> getHolder(@Nullable final Object target) throws IllegalAccessException {
+
+        return this.holder && this.primitiveHolderType == null ? (Holder<?>) this.accessor.get(target) : null;
+
+    }
+
+    /**
+     * Returns the holder of the bound field including primitive holders, the holder changes can be subscribed to.
+     *
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @return The holder or <code>null</code> if the field isn't a holder.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    @Nullable
+    public Subscribable<?> getSubscribable(@Nullable final Object target) throws IllegalAccessException {
+
+        return this.holder || this.primitiveHolderType != null ? (Subscribable<?>) this.accessor.get(target) : null;
+
+    }
+
+    /**
+     * Converts the current value of the bound field into a config value.
+     *
+     * @param origin The origin of the created config value.
+     * @return The created config value.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    public ConfigValue toConfigValue(@NotNull final ConfigOrigin origin) throws IllegalAccessException {
+
+        if (this.genericTypeHandler != null)
+            return this.genericTypeHandler.toConfigValue(origin);
+
+        return this.toConfigValue(origin, null);
+
+    }
+
+    /**
+     * Converts the current value of the bound field of the provided configuration instance into a config value.
+     *
+     * @param origin The origin of the created config value.
+     * @param target The configuration instance or <code>null</code> for static fields.
+     * @return The created config value.
+     * @throws IllegalAccessException If the field value couldn't be read.
+     */
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public ConfigValue toConfigValue(@NotNull final ConfigOrigin origin, @Nullable final Object target) throws IllegalAccessException {
+
+        Object fieldValue = this.accessor.get(target);
+        if (this.primitiveHolderType != null)
+            return this.primitiveHolderType.toConfigValue(fieldValue).withOrigin(origin);
+        if (this.holder)
+            fieldValue = ((Holder<?>) fieldValue).get();
+        if (this.genericTypeHandler != null) {
+            return this.genericTypeHandler.encode(fieldValue).withOrigin(origin);
+        } else if (this.serializer != null) {
+            return ((ConfigurationSerializable) this.serializer).serialize(fieldValue).withOrigin(origin);
+        } else {
+            return ConfigValueFactory.fromAnyRef(fieldValue).withOrigin(origin);
+        }
+
+    }
+
+    public Field getField() {
+
+        return this.field;
+
+    }
+
+    public FieldAccessor getAccessor() {
+
+        return this.accessor;
+
+    }
+
+    public Class<?> getOwner() {
+
+        return this.owner;
+
+    }
+
+    public String getPath() {
+
+        return this.path;
+
+    }
+
+    public String getDescription() {
+
+        return this.description;
+
+    }
+
+    public boolean isStatic() {
+
+        return Modifier.isStatic(this.field.getModifiers());
+
+    }
+
+    public boolean isHolder() {
+
+        return this.holder;
+
+    }
+
+    @Nullable
+    public PrimitiveHolderType getPrimitiveHolderType() {
+
+        return this.primitiveHolderType;
+
+    }
+
+    public Class<?> getValueType() {
+
+        return this.valueType;
+
+    }
+
+    @Nullable
+    public GenericTypeHandler getGenericTypeHandler() {
+
+        return this.genericTypeHandler;
+
+    }
+
+    @Nullable
+    public ConfigurationSerializable<?> getSerializer() {
+
+        return this.serializer;
+
+    }
+
+    public boolean isLazy() {
+
+        return this.lazy;
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Resolves the method handles of fields a generated {@link ConfigurationBinder} can't access directly, like private
+ * fields or fields of private nested classes. Binders keep the handles in <code>static final</code> fields so the JIT
+ * treats them as constants and inlines the field access. Getters have the type {@link #GETTER_TYPE}, setters the type
+ * {@link #SETTER_TYPE}, both are invoked exactly and ignore the target for static fields.
+ */
+
+public final class FieldHandles {
+
+    public static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    public static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private FieldHandles() {
+
+    }
+
+    /**
+     * Resolves the getter of a field.
+     *
+     * @param binder    The generated binder, its class loader is used to load the owner.
+     * @param ownerName The binary name of the class that declares the field.
+     * @param fieldName The name of the field.
+     * @return The getter or <code>null</code> if the field isn't accessible, the binder then leaves it to reflection.
+     */
+
+    @Nullable
+    public static MethodHandle findGetter(@NotNull final Class<?> binder, @NotNull final String ownerName, @NotNull final String fieldName) {
+
+        final Field field = findField(binder, ownerName, fieldName);
+        if (field == null)
+            return null;
+
+        try {
+            final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers()))
+                return MethodHandles.dropArguments(getter.asType(MethodType.methodType(Object.class)), 0, Object.class);
+            return getter.asType(GETTER_TYPE);
+        } catch (final IllegalAccessException ex) {
+            return null;
+        }
+
+    }
+
+    /**
+     * Resolves the setter of a non-final field.
+     *
+     * @param binder    The generated binder, its class loader is used to load the owner.
+     * @param ownerName The binary name of the class that declares the field.
+     * @param fieldName The name of the field.
+     * @return The setter or <code>null</code> if the field isn't accessible, the binder then leaves it to reflection.
+     */
+
+    @Nullable
+    public static MethodHandle findSetter(@NotNull final Class<?> binder, @NotNull final String ownerName, @NotNull final String fieldName) {
+
+        final Field field = findField(binder, ownerName, fieldName);
+        if (field == null)
+            return null;
+
+        try {
+            final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers()))
+                return MethodHandles.dropArguments(setter.asType(MethodType.methodType(void.class, Object.class)), 0, Object.class);
+            return setter.asType(SETTER_TYPE);
+        } catch (final IllegalAccessException ex) {
+            return null;
+        }
+
+    }
+
+    @Nullable
+    private static Field findField(@NotNull final Class<?> binder, @NotNull final String ownerName, @NotNull final String fieldName) {
+
+        try {
+            final Field field = Class.forName(ownerName, false, binder.getClassLoader()).getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field;
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            // Missing classes or fields and module restrictions.
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,225 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.common.BooleanHolder;
+import dev.dexuby.easyconfig.core.common.DoubleHolder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+import dev.dexuby.easyconfig.core.common.LongHolder;
+
+/**
+ * The primitive-specialized holder types, values get read through the primitive config getters and set without boxing.
+ */
+
+public enum PrimitiveHolderType {
+
+    INT(IntHolder.class, int.class) {
+        @Override
+        void read(@NotNull final Object holder, @NotNull final Config config, @NotNull final String path) {
+
+            ((IntHolder) holder).set(config.getInt(path));
+
+        }
+
+        @NotNull
+        @Override
+        Object decode(@NotNull final Config config, @NotNull final String path) {
+
+            return config.getInt(path);
+
+        }
+
+        @Override
+        void set(@NotNull final Object holder, @NotNull final Object value) {
+
+            ((IntHolder) holder).set(((Number) value).intValue());
+
+        }
+
+        @NotNull
+        @Override
+        ConfigValue toConfigValue(@NotNull final Object holder) {
+
+            return ConfigValueFactory.fromAnyRef(((IntHolder) holder).get());
+
+        }
+    },
+    LONG(LongHolder.class, long.class) {
+        @Override
+        void read(@NotNull final Object holder, @NotNull final Config config, @NotNull final String path) {
+
+            ((LongHolder) holder).set(config.getLong(path));
+
+        }
+
+        @NotNull
+        @Override
+        Object decode(@NotNull final Config config, @NotNull final String path) {
+
+            return config.getLong(path);
+
+        }
+
+        @Override
+        void set(@NotNull final Object holder, @NotNull final Object value) {
+
+            ((LongHolder) holder).set(((Number) value).longValue());
+
+        }
+
+        @NotNull
+        @Override
+        ConfigValue toConfigValue(@NotNull final Object holder) {
+
+            return ConfigValueFactory.fromAnyRef(((LongHolder) holder).get());
+
+        }
+    },
+    DOUBLE(DoubleHolder.class, double.class) {
+        @Override
+        void read(@NotNull final Object holder, @NotNull final Config config, @NotNull final String path) {
+
+            ((DoubleHolder) holder).set(config.getDouble(path));
+
+        }
+
+        @NotNull
+        @Override
+        Object decode(@NotNull final Config config, @NotNull final String path) {
+
+            return config.getDouble(path);
+
+        }
+
+        @Override
+        void set(@NotNull final Object holder, @NotNull final Object value) {
+
+            ((DoubleHolder) holder).set(((Number) value).doubleValue());
+
+        }
+
+        @NotNull
+        @Override
+        ConfigValue toConfigValue(@NotNull final Object holder) {
+
+            return ConfigValueFactory.fromAnyRef(((DoubleHolder) holder).get());
+
+        }
+    },
+    BOOLEAN(BooleanHolder.class, boolean.class) {
+        @Override
+        void read(@NotNull final Object holder, @NotNull final Config config, @NotNull final String path) {
+
+            ((BooleanHolder) holder).set(config.getBoolean(path));
+
+        }
+
+        @NotNull
+        @Override
+        Object decode(@NotNull final Config config, @NotNull final String path) {
+
+            return config.getBoolean(path);
+
+        }
+
+        @Override
+        void set(@NotNull final Object holder, @NotNull final Object value) {
+
+            ((BooleanHolder) holder).set((Boolean) value);
+
+        }
+
+        @NotNull
+        @Override
+        ConfigValue toConfigValue(@NotNull final Object holder) {
+
+            return ConfigValueFactory.fromAnyRef(((BooleanHolder) holder).get());
+
+        }
+    };
+
+    private final Class<?> holderType;
+    private final Class<?> valueType;
+
+    PrimitiveHolderType(@NotNull final Class<?> holderType, @NotNull final Class<?> valueType) {
+
+        this.holderType = holderType;
+        this.valueType = valueType;
+
+    }
+
+    /**
+     * Reads the value at the provided path and sets it to the holder.
+     *
+     * @param holder The holder.
+     * @param config The config.
+     * @param path   The path.
+     */
+
+    abstract void read(@NotNull final Object holder, @NotNull final Config config, @NotNull final String path);
+
+    /**
+     * Reads the boxed value at the provided path.
+     *
+     * @param config The config.
+     * @param path   The path.
+     * @return The boxed value.
+     */
+
+    @NotNull
+    abstract Object decode(@NotNull final Config config, @NotNull final String path);
+
+    /**
+     * Sets the provided boxed value to the holder.
+     *
+     * @param holder The holder.
+     * @param value  The boxed value.
+     */
+
+    abstract void set(@NotNull final Object holder, @NotNull final Object value);
+
+    /**
+     * Converts the current value of the holder into a config value.
+     *
+     * @param holder The holder.
+     * @return The created config value.
+     */
+
+    @NotNull
+    abstract ConfigValue toConfigValue(@NotNull final Object holder);
+
+    public Class<?> getHolderType() {
+
+        return this.holderType;
+
+    }
+
+    public Class<?> getValueType() {
+
+        return this.valueType;
+
+    }
+
+    /**
+     * Returns the primitive holder type matching the provided field type.
+     *
+     * @param type The field type.
+     * @return The matching primitive holder type or <code>null</code> if the type isn't a primitive holder.
+     */
+
+    @Nullable
+    public static PrimitiveHolderType of(@NotNull final Class<?> type) {
+
+        for (final PrimitiveHolderType primitiveHolderType : values()) {
+            if (primitiveHolderType.holderType == type)
+                return primitiveHolderType;
+        }
+
+        return null;
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link FieldAccessor} backed by core reflection. Used for every field that has no accessor of a generated binder,
+ * final fields are rejected up front so they behave the same as with a generated accessor.
+ */
+
+final class ReflectionFieldAccessor implements FieldAccessor {
+
+    private final Field field;
+    private final boolean writable;
+
+    ReflectionFieldAccessor(@NotNull final Field field) {
+
+        this.field = field;
+        this.writable = !Modifier.isFinal(field.getModifiers());
+
+    }
+
+    @Nullable
+    @Override
+    public Object get(@Nullable final Object target) throws IllegalAccessException {
+
+        return this.field.get(target);
+
+    }
+
+    @Override
+    public void set(@Nullable final Object target, @Nullable final Object value) throws IllegalAccessException {
+
+        if (!this.writable)
+            throw new IllegalAccessException("Field " + this.field.getName() + " is final and can't be set.");
+        this.field.set(target, value);
+
+    }
+
+}
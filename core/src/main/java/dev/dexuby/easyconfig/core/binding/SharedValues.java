@@ -0,0 +1,148 @@
+package dev.dexuby.easyconfig.core.binding;
+
+import com.typesafe.config.ConfigValue;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.ValueInterner;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded values shared between configuration instances. Instances that are loaded with the same shared values get the
+ * same value instance for every field whose config value is structurally equal, so thousands of instances with mostly
+ * identical files only keep one copy of each distinct value. Shared collections and maps are unmodifiable views if the
+ * field type allows it, arrays are never shared since they can't be protected against modification.
+ * <p>
+ * Shared values are never evicted, re-use an instance only for instances that are meant to share their values, for
+ * example all tenants of one bulk load. An optional {@link ValueInterner} additionally deduplicates the elements of the
+ * shared values and small collections and maps with values of other configurations.
+ */
+
+public final class SharedValues {
+
+    private final Map<FieldBinding, Map<Object, Object>> values = new ConcurrentHashMap<>();
+    private final ValueInterner valueInterner;
+
+    public SharedValues() {
+
+        this(null);
+
+    }
+
+    /**
+     * @param valueInterner The interner used for the shared values or <code>null</code> to keep them as they are.
+     */
+
+    public SharedValues(@Nullable final ValueInterner valueInterner) {
+
+        this.valueInterner = valueInterner;
+
+    }
+
+    /**
+     * Returns the decoded value of the provided config value for the provided field binding, decoding it only if no
+     * equal config value has been decoded for the binding yet.
+     *
+     * @param fieldBinding The field binding.
+     * @param configValue  The config value.
+     * @return The shared value.
+     */
+
+    @Nullable
+    Object get(@NotNull final FieldBinding fieldBinding, @NotNull final ConfigValue configValue) {
+
+        final ValueInterner valueInterner = this.valueInterner;
+        if (fieldBinding.getValueType().isArray()) {
+            final Object value = fieldBinding.decode(configValue);
+            return valueInterner != null ? valueInterner.intern(value) : value;
+        }
+
+        final Map<Object, Object> values = this.values.computeIfAbsent(fieldBinding, key -> new ConcurrentHashMap<>());
+        final Object key = ConfigValueFingerprint.of(configValue);
+        final Object existing = values.get(key);
+        if (existing != null)
+            return existing;
+
+        // Decoded outside of the map so concurrent loads don't block each other, the first value wins.
+        final Object decoded = fieldBinding.decode(configValue);
+        final Object interned = valueInterner != null ? valueInterner.intern(decoded) : decoded;
+        Object value = unmodifiable(interned, fieldBinding.getValueType());
+        if (value == null)
+            return null;
+        // Only unmodifiable views may be shared with other configurations.
+        if (valueInterner != null && value != interned)
+            value = valueInterner.internImmutable(value);
+        final Object previous = values.putIfAbsent(key, value);
+        return previous != null ? previous : value;
+
+    }
+
+    @Nullable
+    public ValueInterner getValueInterner() {
+
+        return this.valueInterner;
+
+    }
+
+    /**
+     * Returns the number of distinct shared values.
+     *
+     * @return The number of values.
+     */
+
+    public int size() {
+
+        int size = 0;
+        for (final Map<Object, Object> values : this.values.values())
+            size += values.size();
+
+        return size;
+
+    }
+
+    /**
+     * Removes all shared values.
+     */
+
+    public void clear() {
+
+        this.values.clear();
+
+    }
+
+    /**
+     * Wraps collections and maps into unmodifiable views if the view is assignable to the provided value type.
+     *
+     * @param value     The value.
+     * @param valueType The type of the bound field or holder value.
+     * @return The unmodifiable view or the value itself.
+     */
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static Object unmodifiable(@Nullable final Object value, @NotNull final Class<?> valueType) {
+
+        final Object view;
+        if (value instanceof SortedSet) {
+            view = Collections.unmodifiableSortedSet((SortedSet<Object>) value);
+        } else if (value instanceof Set) {
+            view = Collections.unmodifiableSet((Set<Object>) value);
+        } else if (value instanceof List) {
+            view = Collections.unmodifiableList((List<Object>) value);
+        } else if (value instanceof Collection) {
+            view = Collections.unmodifiableCollection((Collection<Object>) value);
+        } else if (value instanceof SortedMap) {
+            view = Collections.unmodifiableSortedMap((SortedMap<Object, Object>) value);
+        } else if (value instanceof Map) {
+            view = Collections.unmodifiableMap((Map<Object, Object>) value);
+        } else {
+            return value;
+        }
+
+        // Fields declared with a concrete implementation type keep the modifiable value.
+        return valueType.isInstance(view) ? view : value;
+
+    }
+
+}
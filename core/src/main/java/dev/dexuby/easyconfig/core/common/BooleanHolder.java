@@ -0,0 +1,104 @@
+package dev.dexuby.easyconfig.core.common;
+
+/**
+ * Holds a <code>boolean</code> value without boxing. Reads are a single volatile load so reloaded values are safely
+ * published to all reading threads, see {@link PrimitiveHolder} for versions and subscribers.
+ */
+
+public final class BooleanHolder extends PrimitiveHolder<Boolean> {
+
+    private final boolean defaultValue;
+    private volatile boolean value;
+
+    /**
+     * Zero-args constructor, default value will be <code>false</code>.
+     */
+
+    public BooleanHolder() {
+
+        this(false);
+
+    }
+
+    /**
+     * Constructor that takes the default value.
+     *
+     * @param defaultValue The default value.
+     */
+
+    public BooleanHolder(final boolean defaultValue) {
+
+        this.defaultValue = defaultValue;
+        this.value = defaultValue;
+
+    }
+
+    /**
+     * Sets and publishes the value and increments the version.
+     *
+     * @param value The value.
+     */
+
+    public void set(final boolean value) {
+
+        this.value = value;
+        super.incrementVersion();
+
+    }
+
+    /**
+     * Returns the current value, the default value if no value has been set.
+     *
+     * @return The value.
+     */
+
+    public boolean get() {
+
+        return this.value;
+
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @return The default value.
+     */
+
+    public boolean getDefaultValue() {
+
+        return this.defaultValue;
+
+    }
+
+    /**
+     * Static factory method to create a new instance based on the provided default value.
+     *
+     * @param defaultValue The default value.
+     * @return The created instance.
+     */
+
+    public static BooleanHolder of(final boolean defaultValue) {
+
+        return new BooleanHolder(defaultValue);
+
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        final BooleanHolder input = (BooleanHolder) obj;
+        return this.defaultValue == input.defaultValue && this.value == input.value;
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Boolean.hashCode(this.defaultValue) + Boolean.hashCode(this.value);
+
+    }
+
+}
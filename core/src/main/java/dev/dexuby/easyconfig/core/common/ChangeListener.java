@@ -0,0 +1,24 @@
+package dev.dexuby.easyconfig.core.common;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+/**
+ * Subscriber of a holder that gets notified whenever a reload changed the value of the holder, see
+ * {@link Subscribable#subscribe(ChangeListener)}.
+ *
+ * @param <T> The type.
+ */
+
+@FunctionalInterface
+public interface ChangeListener<T> {
+
+    /**
+     * Called after a reload changed the value of the holder.
+     *
+     * @param oldValue The previous value, <code>null</code> if the holder was empty.
+     * @param newValue The new value.
+     */
+
+    void onChange(@Nullable final T oldValue, @Nullable final T newValue);
+
+}
@@ -0,0 +1,136 @@
+package dev.dexuby.easyconfig.core.common;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe {@link Holder} variant for values that get read by many threads while being reloaded. Reading the value
+ * is a single volatile load, updates are safely published and increment a version. The version is incremented after
+ * the value has been published so a reader that observed version <code>n</code> will afterwards always see a value
+ * that is at least as new as the one of version <code>n</code>.
+ *
+ * @param <T> The type.
+ */
+
+public class ConcurrentHolder<T> extends Holder<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<ConcurrentHolder> VERSION =
+            AtomicLongFieldUpdater.newUpdater(ConcurrentHolder.class, "version");
+
+    private volatile long version = 0;
+
+    /**
+     * Zero-args constructor, default value will be <code>null</code>.
+     */
+
+    public ConcurrentHolder() {
+
+        super();
+
+    }
+
+    /**
+     * Constructor that takes a nullable default value.
+     *
+     * @param defaultValue The default value.
+     */
+
+    public ConcurrentHolder(@Nullable final T defaultValue) {
+
+        super(defaultValue);
+
+    }
+
+    /**
+     * Sets and publishes the internal value that will get prioritised over the default value.
+     *
+     * @param value The value.
+     */
+
+    @Override
+    public void set(@Nullable final T value) {
+
+        super.set(value);
+        VERSION.incrementAndGet(this);
+
+    }
+
+    /**
+     * Sets and publishes a lazily computed value, see {@link Holder#setLazy(Supplier)}. The version is incremented once
+     * the lazy value is set, computing it doesn't change the version.
+     *
+     * @param supplier The supplier of the value.
+     */
+
+    @Override
+    public void setLazy(@NotNull final Supplier<? extends T> supplier) {
+
+        super.setLazy(supplier);
+        VERSION.incrementAndGet(this);
+
+    }
+
+    /**
+     * Atomically sets the internal value if the current internal value is the expected one. Values are compared by
+     * identity. A pending lazy value is computed first.
+     *
+     * @param expected The expected current internal value, <code>null</code> if no value has been set.
+     * @param value    The new value.
+     * @return <code>true</code> if the value has been set, <code>false</code> otherwise.
+     */
+
+    public boolean compareAndSet(@Nullable final T expected, @Nullable final T value) {
+
+        if (!super.compareAndSetValue(expected, value))
+            return false;
+
+        VERSION.incrementAndGet(this);
+        return true;
+
+    }
+
+    /**
+     * Returns the version of the internal value, the version starts at <code>0</code> and is incremented by every
+     * update.
+     *
+     * @return The version.
+     */
+
+    public long getVersion() {
+
+        return this.version;
+
+    }
+
+    /**
+     * Static factory method to create a new instance based on the provided default value.
+     *
+     * @param defaultValue The default value.
+     * @param <T>          The type.
+     * @return The created instance.
+     */
+
+    public static <T> ConcurrentHolder<T> of(@NotNull final T defaultValue) {
+
+        return new ConcurrentHolder<>(defaultValue);
+
+    }
+
+    /**
+     * Static factory method to create a new instance with no default value.
+     *
+     * @param <T> The type.
+     * @return The created instance.
+     */
+
+    public static <T> ConcurrentHolder<T> empty() {
+
+        return new ConcurrentHolder<>();
+
+    }
+
+}
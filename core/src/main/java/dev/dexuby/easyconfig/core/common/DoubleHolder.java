@@ -0,0 +1,104 @@
+package dev.dexuby.easyconfig.core.common;
+
+/**
+ * Holds a <code>double</code> value without boxing. Reads are a single volatile load so reloaded values are safely
+ * published to all reading threads, see {@link PrimitiveHolder} for versions and subscribers.
+ */
+
+public final class DoubleHolder extends PrimitiveHolder<Double> {
+
+    private final double defaultValue;
+    private volatile double value;
+
+    /**
+     * Zero-args constructor, default value will be <code>0</code>.
+     */
+
+    public DoubleHolder() {
+
+        this(0D);
+
+    }
+
+    /**
+     * Constructor that takes the default value.
+     *
+     * @param defaultValue The default value.
+     */
+
+    public DoubleHolder(final double defaultValue) {
+
+        this.defaultValue = defaultValue;
+        this.value = defaultValue;
+
+    }
+
+    /**
+     * Sets and publishes the value and increments the version.
+     *
+     * @param value The value.
+     */
+
+    public void set(final double value) {
+
+        this.value = value;
+        super.incrementVersion();
+
+    }
+
+    /**
+     * Returns the current value, the default value if no value has been set.
+     *
+     * @return The value.
+     */
+
+    public double get() {
+
+        return this.value;
+
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @return The default value.
+     */
+
+    public double getDefaultValue() {
+
+        return this.defaultValue;
+
+    }
+
+    /**
+     * Static factory method to create a new instance based on the provided default value.
+     *
+     * @param defaultValue The default value.
+     * @return The created instance.
+     */
+
+    public static DoubleHolder of(final double defaultValue) {
+
+        return new DoubleHolder(defaultValue);
+
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        final DoubleHolder input = (DoubleHolder) obj;
+        return Double.compare(this.defaultValue, input.defaultValue) == 0 && Double.compare(this.value, input.value) == 0;
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Double.hashCode(this.defaultValue) + Double.hashCode(this.value);
+
+    }
+
+}
@@ -5,6 +5,8 @@ import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
 import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Supplier;
 
 /**
  * Holds a value.
@@ -12,10 +14,15 @@ import java.util.Objects;
  * @param <T> The type.
  */
 
-public class Holder<T> {
+public class Holder<T> extends Subscribable<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Holder, Object> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(Holder.class, Object.class, "value");
 
     private final T defaultValue;
-    private T value = null;
+    // The set value, a pending lazy value or the failure of a lazy value, so every read is a single volatile load.
+    private volatile Object value = null;
 
     /**
      * Zero-args constructor, default value will be <code>null</code>.
@@ -40,7 +47,7 @@ public class Holder<T> {
     }
 
     /**
-     * Sets the internal value that will get prioritised over the default value.
+     * Sets the internal value that will get prioritised over the default value, a pending lazy value is discarded.
      *
      * @param value The value.
      */
@@ -51,6 +58,111 @@ public class Holder<T> {
 
     }
 
+    /**
+     * Sets a value that gets computed by the provided supplier on the first access. The supplier is invoked at most
+     * once and the computed value is safely published to all threads. If the supplier throws the exception is passed to
+     * the caller of that access and recorded, every following access fails with an {@link IllegalStateException} caused
+     * by it until a new value is set.
+     *
+     * @param supplier The supplier of the value.
+     */
+
+    public void setLazy(@NotNull final Supplier<? extends T> supplier) {
+
+        this.value = new Pending(supplier);
+
+    }
+
+    /**
+     * Returns whether a value set with {@link #setLazy(Supplier)} hasn't been computed yet.
+     *
+     * @return <code>true</code> if a lazy value is pending, <code>false</code> otherwise.
+     */
+
+    public boolean isPending() {
+
+        return this.value instanceof Pending;
+
+    }
+
+    /**
+     * Returns whether the holder has a value, a pending lazy value or a default value. If not {@link #get()} throws a
+     * {@link NullPointerException}.
+     *
+     * @return <code>true</code> if a value is present, <code>false</code> otherwise.
+     */
+
+    public boolean isPresent() {
+
+        return this.value != null || this.defaultValue != null;
+
+    }
+
+    /**
+     * Returns the value like {@link #get()} but without computing a pending lazy value.
+     *
+     * @return The value, <code>null</code> if a lazy value is pending or failed or if no value is present.
+     */
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public T peek() {
+
+        final Object value = this.value;
+        if (value instanceof Unresolved)
+            return null;
+        return value != null ? (T) value : this.defaultValue;
+
+    }
+
+    /**
+     * Atomically sets the internal value if the current internal value is the expected one. Values are compared by
+     * identity. A pending lazy value is computed first.
+     *
+     * @param expected The expected current internal value, <code>null</code> if no value has been set.
+     * @param value    The new value.
+     * @return <code>true</code> if the value has been set, <code>false</code> otherwise.
+     */
+
+    protected final boolean compareAndSetValue(@Nullable final T expected, @Nullable final T value) {
+
+        if (this.value instanceof Unresolved)
+            this.resolve();
+        return VALUE.compareAndSet(this, expected, value);
+
+    }
+
+    /**
+     * Computes the pending lazy value, concurrent callers wait for the first one. Values set while the supplier runs
+     * win over the computed value.
+     *
+     * @return The internal value after the lazy value has been computed.
+     */
+
+    @Nullable
+    private Object resolve() {
+
+        synchronized (this) {
+            while (true) {
+                final Object value = this.value;
+                if (value instanceof Failure)
+                    throw new IllegalStateException("Computing the lazy value failed.", ((Failure) value).cause);
+                if (!(value instanceof Pending))
+                    return value;
+                final Object computed;
+                try {
+                    computed = ((Pending) value).supplier.get();
+                } catch (final RuntimeException | Error ex) {
+                    VALUE.compareAndSet(this, value, new Failure(ex));
+                    throw ex;
+                }
+                if (VALUE.compareAndSet(this, value, computed))
+                    return computed;
+            }
+        }
+
+    }
+
     /**
      * Returns the default value if present.
      *
@@ -66,20 +178,25 @@ public class Holder<T> {
 
     /**
      * Returns the stored value or the default value if no value has been set. If no value is stored and the default
-     * value is <code>null</code> this method will throw an exception.
+     * value is <code>null</code> this method will throw an exception. A pending lazy value is computed first.
      *
      * @return The value prioritising the set value.
-     * @throws NullPointerException If both values were <code>null</code>.
+     * @throws NullPointerException  If both values were <code>null</code>.
+     * @throws IllegalStateException If computing the lazy value failed on a previous access.
      */
 
+    @SuppressWarnings("unchecked")
     @NotNull
     public T get() throws NullPointerException {
 
-        if (this.value == null) {
+        Object value = this.value;
+        if (value instanceof Unresolved)
+            value = this.resolve();
+        if (value == null) {
             Preconditions.checkNotNull(defaultValue);
             return this.defaultValue;
         } else {
-            return this.value;
+            return (T) value;
         }
 
     }
@@ -111,6 +228,11 @@ public class Holder<T> {
 
     }
 
+    /**
+     * Compares the default value and the internal value, pending lazy values are compared by identity without being
+     * computed.
+     */
+
     @Override
     public boolean equals(final Object obj) {
 
@@ -129,4 +251,36 @@ public class Holder<T> {
 
     }
 
+    /**
+     * State of a lazy value that hasn't been turned into the internal value.
+     */
+
+    private abstract static class Unresolved {
+
+    }
+
+    private static final class Pending extends Unresolved {
+
+        private final Supplier<?> supplier;
+
+        private Pending(@NotNull final Supplier<?> supplier) {
+
+            this.supplier = supplier;
+
+        }
+
+    }
+
+    private static final class Failure extends Unresolved {
+
+        private final Throwable cause;
+
+        private Failure(@NotNull final Throwable cause) {
+
+            this.cause = cause;
+
+        }
+
+    }
+
 }
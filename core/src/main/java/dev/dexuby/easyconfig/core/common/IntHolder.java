@@ -0,0 +1,104 @@
+package dev.dexuby.easyconfig.core.common;
+
+/**
+ * Holds a <code>int</code> value without boxing. Reads are a single volatile load so reloaded values are safely
+ * published to all reading threads, see {@link PrimitiveHolder} for versions and subscribers.
+ */
+
+public final class IntHolder extends PrimitiveHolder<Integer> {
+
+    private final int defaultValue;
+    private volatile int value;
+
+    /**
+     * Zero-args constructor, default value will be <code>0</code>.
+     */
+
+    public IntHolder() {
+
+        this(0);
+
+    }
+
+    /**
+     * Constructor that takes the default value.
+     *
+     * @param defaultValue The default value.
+     */
+
+    public IntHolder(final int defaultValue) {
+
+        this.defaultValue = defaultValue;
+        this.value = defaultValue;
+
+    }
+
+    /**
+     * Sets and publishes the value and increments the version.
+     *
+     * @param value The value.
+     */
+
+    public void set(final int value) {
+
+        this.value = value;
+        super.incrementVersion();
+
+    }
+
+    /**
+     * Returns the current value, the default value if no value has been set.
+     *
+     * @return The value.
+     */
+
+    public int get() {
+
+        return this.value;
+
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @return The default value.
+     */
+
+    public int getDefaultValue() {
+
+        return this.defaultValue;
+
+    }
+
+    /**
+     * Static factory method to create a new instance based on the provided default value.
+     *
+     * @param defaultValue The default value.
+     * @return The created instance.
+     */
+
+    public static IntHolder of(final int defaultValue) {
+
+        return new IntHolder(defaultValue);
+
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        final IntHolder input = (IntHolder) obj;
+        return this.defaultValue == input.defaultValue && this.value == input.value;
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Integer.hashCode(this.defaultValue) + Integer.hashCode(this.value);
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package dev.dexuby.easyconfig.core.common;
+
+/**
+ * Holds a <code>long</code> value without boxing. Reads are a single volatile load so reloaded values are safely
+ * published to all reading threads, see {@link PrimitiveHolder} for versions and subscribers.
+ */
+
+public final class LongHolder extends PrimitiveHolder<Long> {
+
+    private final long defaultValue;
+    private volatile long value;
+
+    /**
+     * Zero-args constructor, default value will be <code>0</code>.
+     */
+
+    public LongHolder() {
+
+        this(0L);
+
+    }
+
+    /**
+     * Constructor that takes the default value.
+     *
+     * @param defaultValue The default value.
+     */
+
+    public LongHolder(final long defaultValue) {
+
+        this.defaultValue = defaultValue;
+        this.value = defaultValue;
+
+    }
+
+    /**
+     * Sets and publishes the value and increments the version.
+     *
+     * @param value The value.
+     */
+
+    public void set(final long value) {
+
+        this.value = value;
+        super.incrementVersion();
+
+    }
+
+    /**
+     * Returns the current value, the default value if no value has been set.
+     *
+     * @return The value.
+     */
+
+    public long get() {
+
+        return this.value;
+
+    }
+
+    /**
+     * Returns the default value.
+     *
+     * @return The default value.
+     */
+
+    public long getDefaultValue() {
+
+        return this.defaultValue;
+
+    }
+
+    /**
+     * Static factory method to create a new instance based on the provided default value.
+     *
+     * @param defaultValue The default value.
+     * @return The created instance.
+     */
+
+    public static LongHolder of(final long defaultValue) {
+
+        return new LongHolder(defaultValue);
+
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        final LongHolder input = (LongHolder) obj;
+        return this.defaultValue == input.defaultValue && this.value == input.value;
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * Long.hashCode(this.defaultValue) + Long.hashCode(this.value);
+
+    }
+
+}
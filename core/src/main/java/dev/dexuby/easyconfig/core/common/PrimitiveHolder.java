@@ -0,0 +1,47 @@
+package dev.dexuby.easyconfig.core.common;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Base of the holders that keep a primitive value without boxing. Subscribers receive the boxed values and every update
+ * increments a version like {@link ConcurrentHolder#getVersion()}.
+ *
+ * @param <T> The boxed type.
+ */
+
+public abstract class PrimitiveHolder<T> extends Subscribable<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<PrimitiveHolder> VERSION =
+            AtomicLongFieldUpdater.newUpdater(PrimitiveHolder.class, "version");
+
+    private volatile long version = 0;
+
+    PrimitiveHolder() {
+
+    }
+
+    /**
+     * Increments the version, called after the new value has been published so a reader that observed version
+     * <code>n</code> will afterwards always see a value that is at least as new as the one of version <code>n</code>.
+     */
+
+    final void incrementVersion() {
+
+        VERSION.incrementAndGet(this);
+
+    }
+
+    /**
+     * Returns the version of the value, the version starts at <code>0</code> and is incremented by every update.
+     *
+     * @return The version.
+     */
+
+    public long getVersion() {
+
+        return this.version;
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package dev.dexuby.easyconfig.core.common;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.Constants;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Base of all holder types whose changes can be subscribed to, see {@link ChangeListener}.
+ *
+ * @param <T> The type, boxed for primitive holders.
+ */
+
+public abstract class Subscribable<T> {
+
+    // Subscribers notified about reloaded values, created on the first subscription.
+    private volatile List<ChangeListener<? super T>> subscribers = null;
+
+    /**
+     * Subscribes the provided listener to changes of the value caused by reloading its configuration.
+     * Listeners are notified on the change executor of the resolver, see
+     * {@link dev.dexuby.easyconfig.core.ConfigurationResolver#setChangeExecutor}.
+     *
+     * @param listener The listener.
+     */
+
+    public void subscribe(@NotNull final ChangeListener<? super T> listener) {
+
+        synchronized (this) {
+            if (this.subscribers == null)
+                this.subscribers = new CopyOnWriteArrayList<>();
+            this.subscribers.add(listener);
+        }
+
+    }
+
+    /**
+     * Removes a listener added through {@link #subscribe(ChangeListener)}.
+     *
+     * @param listener The listener.
+     */
+
+    public void unsubscribe(@NotNull final ChangeListener<? super T> listener) {
+
+        final List<ChangeListener<? super T>> subscribers = this.subscribers;
+        if (subscribers != null)
+            subscribers.remove(listener);
+
+    }
+
+    /**
+     * Returns whether at least one listener is subscribed to this value.
+     *
+     * @return <code>true</code> if a listener is subscribed, <code>false</code> otherwise.
+     */
+
+    public boolean hasSubscribers() {
+
+        final List<ChangeListener<? super T>> subscribers = this.subscribers;
+        return subscribers != null && !subscribers.isEmpty();
+
+    }
+
+    /**
+     * Notifies all subscribed listeners on the calling thread about a changed value, exceptions thrown by a listener are
+     * logged and otherwise ignored.
+     *
+     * @param oldValue The previous value.
+     * @param newValue The new value.
+     */
+
+    public void notifySubscribers(@Nullable final T oldValue, @Nullable final T newValue) {
+
+        final List<ChangeListener<? super T>> subscribers = this.subscribers;
+        if (subscribers == null) return;
+        for (final ChangeListener<? super T> subscriber : subscribers) {
+            try {
+                subscriber.onChange(oldValue, newValue);
+            } catch (final RuntimeException ex) {
+                Constants.LOGGER.warn("Change listener " + subscriber.getClass().getName() + " failed.", ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,176 @@
+package dev.dexuby.easyconfig.core.serialization;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.serialization.codec.ValueCodec;
+import dev.dexuby.easyconfig.core.serialization.codec.ValueCodecs;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map of the registered serializers that additionally resolves serializers registered for a supertype or interface of
+ * the requested type. Resolved lookups are cached per class in a {@link ClassValue}, the cache gets dropped whenever a
+ * serializer is added or removed. {@link #get(Object)} keeps the exact-match semantics of a regular map. The registry
+ * also caches the codec trees of generic types since they are built from the registered serializers.
+ */
+
+public final class SerializerRegistry extends AbstractMap<Class<?>, ConfigurationSerializable<?>> {
+
+    private final Map<Class<?>, ConfigurationSerializable<?>> serializers = new ConcurrentHashMap<>();
+    private volatile ClassValue<Optional<ConfigurationSerializable<?>>> resolvedSerializers = this.createCache();
+    // Codec trees per generic type and map encoding, they depend on the registered serializers.
+    private final Map<List<Object>, ValueCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    public SerializerRegistry() {
+
+    }
+
+    public SerializerRegistry(@NotNull final Map<Class<?>, ConfigurationSerializable<?>> serializers) {
+
+        this.serializers.putAll(serializers);
+
+    }
+
+    /**
+     * Finds the serializer of the provided type. Serializers registered for the exact type are preferred, after that
+     * the superclasses are checked from the closest to the most distant one and finally all implemented interfaces.
+     * Serializers registered for {@link Object} only match the exact type.
+     *
+     * @param type The type.
+     * @return The serializer or <code>null</code> if none matches.
+     */
+
+    @Nullable
+    public ConfigurationSerializable<?> find(@NotNull final Class<?> type) {
+
+        return this.resolvedSerializers.get(type).orElse(null);
+
+    }
+
+    /**
+     * Returns the cached codec tree of the provided type, creating it if necessary.
+     *
+     * @param type        The generic type.
+     * @param mapEncoding The encoding of all maps in the type.
+     * @return The codec.
+     */
+
+    @NotNull
+    public ValueCodec<?> getCodec(@NotNull final Type type, @NotNull final MapEncoding mapEncoding) {
+
+        final List<Object> key = Arrays.asList(type, mapEncoding);
+        final ValueCodec<?> codec = this.codecs.get(key);
+        if (codec != null)
+            return codec;
+
+        // Not using computeIfAbsent since creating a codec recursively requests the codecs of the element types.
+        final ValueCodec<?> created = ValueCodecs.create(type, this, mapEncoding);
+        final ValueCodec<?> previous = this.codecs.putIfAbsent(key, created);
+        return previous != null ? previous : created;
+
+    }
+
+    @Override
+    public ConfigurationSerializable<?> get(final Object key) {
+
+        return this.serializers.get(key);
+
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+
+        return this.serializers.containsKey(key);
+
+    }
+
+    @Override
+    public ConfigurationSerializable<?> put(final Class<?> key, final ConfigurationSerializable<?> value) {
+
+        final ConfigurationSerializable<?> previous = this.serializers.put(key, value);
+        this.resolvedSerializers = this.createCache();
+        this.codecs.clear();
+        return previous;
+
+    }
+
+    @Override
+    public ConfigurationSerializable<?> remove(final Object key) {
+
+        final ConfigurationSerializable<?> previous = this.serializers.remove(key);
+        this.resolvedSerializers = this.createCache();
+        this.codecs.clear();
+        return previous;
+
+    }
+
+    @Override
+    public void clear() {
+
+        this.serializers.clear();
+        this.resolvedSerializers = this.createCache();
+        this.codecs.clear();
+
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<Class<?>, ConfigurationSerializable<?>>> entrySet() {
+
+        return Collections.unmodifiableSet(this.serializers.entrySet());
+
+    }
+
+    @NotNull
+    private ClassValue<Optional<ConfigurationSerializable<?>>> createCache() {
+
+        return new ClassValue<Optional<ConfigurationSerializable<?>>>() {
+
+            @Override
+            protected Optional<ConfigurationSerializable<?>> computeValue(final Class<?> type) {
+
+                return Optional.ofNullable(SerializerRegistry.this.resolve(type));
+
+            }
+
+        };
+
+    }
+
+    @Nullable
+    private ConfigurationSerializable<?> resolve(@NotNull final Class<?> type) {
+
+        final ConfigurationSerializable<?> exact = this.serializers.get(type);
+        if (exact != null || type.isPrimitive() || type.isArray())
+            return exact;
+
+        // Superclasses first, closest one wins.
+        for (Class<?> current = type.getSuperclass(); current != null && current != Object.class; current = current.getSuperclass()) {
+            final ConfigurationSerializable<?> serializer = this.serializers.get(current);
+            if (serializer != null)
+                return serializer;
+        }
+
+        // Interfaces breadth-first, starting with the ones closest to the type.
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass())
+            queue.addAll(Arrays.asList(current.getInterfaces()));
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (!visited.add(current))
+                continue;
+            final ConfigurationSerializable<?> serializer = this.serializers.get(current);
+            if (serializer != null)
+                return serializer;
+            queue.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        return null;
+
+    }
+
+}
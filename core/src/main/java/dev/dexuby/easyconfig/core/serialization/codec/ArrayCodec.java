@@ -0,0 +1,73 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec for arrays of objects, elements are converted by the component codec. Arrays of primitives use the
+ * {@link PrimitiveArrayCodec}.
+ */
+
+public final class ArrayCodec implements ValueCodec<Object> {
+
+    private final Class<?> componentType;
+    private final ValueCodec<Object> componentCodec;
+
+    @SuppressWarnings("unchecked")
+    ArrayCodec(@NotNull final Class<?> componentType, @NotNull final ValueCodec<?> componentCodec) {
+
+        this.componentType = componentType;
+        this.componentCodec = (ValueCodec<Object>) componentCodec;
+
+    }
+
+    @Nullable
+    @Override
+    public Object decode(@NotNull final ConfigValue configValue) {
+
+        final ConfigList configList = (ConfigList) configValue;
+        final int size = configList.size();
+        final Object[] array = (Object[]) Array.newInstance(this.componentType, size);
+        for (int i = 0; i < size; i++)
+            array[i] = this.componentCodec.decode(configList.get(i));
+
+        return array;
+
+    }
+
+    @NotNull
+    @Override
+    public ConfigValue encode(@Nullable final Object value) {
+
+        if (value == null) return ConfigValueFactory.fromAnyRef(null);
+        final Object[] array = (Object[]) value;
+        final List<ConfigValue> configValues = new ArrayList<>(array.length);
+        for (final Object element : array)
+            configValues.add(this.componentCodec.encode(element));
+
+        return ConfigValueFactory.fromIterable(configValues);
+
+    }
+
+    @NotNull
+    public Class<?> getComponentType() {
+
+        return this.componentType;
+
+    }
+
+    @NotNull
+    public ValueCodec<?> getComponentCodec() {
+
+        return this.componentCodec;
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Codec for collections, elements are converted by the element codec.
+ */
+
+public final class CollectionCodec implements ValueCodec<Collection<?>> {
+
+    private final IntFunction<Object> factory;
+    private final ValueCodec<Object> elementCodec;
+
+    @SuppressWarnings("unchecked")
+    CollectionCodec(@NotNull final IntFunction<Object> factory, @NotNull final ValueCodec<?> elementCodec) {
+
+        this.factory = factory;
+        this.elementCodec = (ValueCodec<Object>) elementCodec;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public Collection<?> decode(@NotNull final ConfigValue configValue) {
+
+        final ConfigList configList = (ConfigList) configValue;
+        final Collection<Object> collection = (Collection<Object>) this.factory.apply(configList.size());
+        this.decodeInto(collection, configList);
+        return collection;
+
+    }
+
+    /**
+     * Converts all elements of the provided list and adds them to the target collection.
+     *
+     * @param collection The target collection.
+     * @param configList The config list.
+     */
+
+    public void decodeInto(@NotNull final Collection<Object> collection, @NotNull final ConfigList configList) {
+
+        for (final ConfigValue element : configList)
+            collection.add(this.elementCodec.decode(element));
+
+    }
+
+    @NotNull
+    @Override
+    public ConfigValue encode(@Nullable final Collection<?> value) {
+
+        if (value == null) return ConfigValueFactory.fromAnyRef(null);
+        final List<ConfigValue> configValues = new ArrayList<>(value.size());
+        for (final Object element : value)
+            configValues.add(this.elementCodec.encode(element));
+
+        return ConfigValueFactory.fromIterable(configValues);
+
+    }
+
+    @NotNull
+    public ValueCodec<?> getElementCodec() {
+
+        return this.elementCodec;
+
+    }
+
+}
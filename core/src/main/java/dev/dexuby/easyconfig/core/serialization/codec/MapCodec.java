@@ -0,0 +1,154 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.*;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.MapEncoding;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Codec for maps. Maps are written in the configured {@link MapEncoding}, reading supports both formats.
+ */
+
+public final class MapCodec implements ValueCodec<Map<?, ?>> {
+
+    private final IntFunction<Object> factory;
+    private final ValueCodec<Object> keyCodec;
+    private final ValueCodec<Object> valueCodec;
+    private final MapEncoding mapEncoding;
+    private final boolean objectKeys;
+
+    @SuppressWarnings("unchecked")
+    MapCodec(@NotNull final IntFunction<Object> factory,
+             @NotNull final Class<?> keyType,
+             @NotNull final ValueCodec<?> keyCodec,
+             @NotNull final ValueCodec<?> valueCodec,
+             @NotNull final MapEncoding mapEncoding) {
+
+        this.factory = factory;
+        this.keyCodec = (ValueCodec<Object>) keyCodec;
+        this.valueCodec = (ValueCodec<Object>) valueCodec;
+        this.mapEncoding = mapEncoding;
+        // Serializers are checked when writing since only the serialized value tells whether it's a string.
+        this.objectKeys = keyCodec instanceof SerializerCodec
+                || (keyCodec instanceof ScalarCodec && ((ScalarCodec) keyCodec).isKeyCompatible());
+        if (mapEncoding == MapEncoding.OBJECT && !this.objectKeys)
+            throw new IllegalArgumentException("Map keys of type " + keyType.getName() + " can't be encoded as object keys.");
+
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    @Override
+    public Map<?, ?> decode(@NotNull final ConfigValue configValue) {
+
+        final Map<Object, Object> map = (Map<Object, Object>) this.factory.apply(size(configValue));
+        this.decodeInto(map, configValue);
+        return map;
+
+    }
+
+    /**
+     * Converts all entries of the provided list or object and puts them into the target map.
+     *
+     * @param map         The target map.
+     * @param configValue The config list or object.
+     */
+
+    public void decodeInto(@NotNull final Map<Object, Object> map, @NotNull final ConfigValue configValue) {
+
+        if (configValue.valueType() == ConfigValueType.OBJECT) {
+            if (!this.objectKeys)
+                throw new ConfigException.BadValue(configValue.origin(), "", "Map keys of this type can't be read from object keys.");
+            // Iterating the keys avoids the entry set copy of the config object.
+            final ConfigObject configObject = (ConfigObject) configValue;
+            for (final String key : configObject.keySet())
+                map.put(this.keyCodec.decode(ConfigValueFactory.fromAnyRef(key)), this.valueCodec.decode(configObject.get(key)));
+        } else {
+            for (final ConfigValue entryValue : (ConfigList) configValue) {
+                final ConfigObject configObject = (ConfigObject) entryValue;
+                map.put(this.keyCodec.decode(configObject.get("key")), this.valueCodec.decode(configObject.get("value")));
+            }
+        }
+
+    }
+
+    @NotNull
+    @Override
+    public ConfigValue encode(@Nullable final Map<?, ?> value) {
+
+        if (value == null) return ConfigValueFactory.fromAnyRef(null);
+        if (this.mapEncoding == MapEncoding.OBJECT) {
+            final Map<String, ConfigValue> entries = new LinkedHashMap<>((int) (value.size() / 0.75D + 1));
+            for (final Map.Entry<?, ?> entry : value.entrySet())
+                entries.put(this.encodeKey(entry.getKey()), this.valueCodec.encode(entry.getValue()));
+
+            return ConfigValueFactory.fromMap(entries);
+        }
+
+        final List<ConfigValue> configObjects = new ArrayList<>(value.size());
+        for (final Map.Entry<?, ?> entry : value.entrySet()) {
+            final Map<String, ConfigValue> configObject = new HashMap<>(4);
+            configObject.put("key", this.keyCodec.encode(entry.getKey()));
+            configObject.put("value", this.valueCodec.encode(entry.getValue()));
+            configObjects.add(ConfigValueFactory.fromMap(configObject));
+        }
+
+        return ConfigValueFactory.fromIterable(configObjects);
+
+    }
+
+    @NotNull
+    private String encodeKey(@Nullable final Object key) {
+
+        final ConfigValue configValue = this.keyCodec.encode(key);
+        final ConfigValueType valueType = configValue.valueType();
+        if (valueType != ConfigValueType.STRING && valueType != ConfigValueType.NUMBER && valueType != ConfigValueType.BOOLEAN)
+            throw new IllegalArgumentException("Map key " + key + " didn't encode to a string, number or boolean.");
+
+        return String.valueOf(configValue.unwrapped());
+
+    }
+
+    /**
+     * Returns the number of entries of the provided list or object.
+     *
+     * @param configValue The config list or object.
+     * @return The number of entries.
+     */
+
+    public static int size(@NotNull final ConfigValue configValue) {
+
+        if (configValue.valueType() == ConfigValueType.OBJECT)
+            return ((ConfigObject) configValue).size();
+        if (configValue.valueType() == ConfigValueType.LIST)
+            return ((ConfigList) configValue).size();
+
+        throw new ConfigException.WrongType(configValue.origin(), "", "list or object", configValue.valueType().name());
+
+    }
+
+    @NotNull
+    public ValueCodec<?> getKeyCodec() {
+
+        return this.keyCodec;
+
+    }
+
+    @NotNull
+    public ValueCodec<?> getValueCodec() {
+
+        return this.valueCodec;
+
+    }
+
+    @NotNull
+    public MapEncoding getMapEncoding() {
+
+        return this.mapEncoding;
+
+    }
+
+}
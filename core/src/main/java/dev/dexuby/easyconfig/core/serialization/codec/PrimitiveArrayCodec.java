@@ -0,0 +1,152 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec for arrays of a primitive component type. Elements are read into and written from the typed array directly
+ * without reflective array access or an intermediate object array. Every element is range checked like a single value
+ * of {@link ScalarCodec}.
+ */
+
+public final class PrimitiveArrayCodec implements ValueCodec<Object> {
+
+    private final Class<?> componentType;
+
+    private PrimitiveArrayCodec(@NotNull final Class<?> componentType) {
+
+        this.componentType = componentType;
+
+    }
+
+    @Nullable
+    @Override
+    public Object decode(@NotNull final ConfigValue configValue) {
+
+        final ConfigList configList = (ConfigList) configValue;
+        final int size = configList.size();
+        if (this.componentType == int.class) {
+            final int[] array = new int[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.intValue(configList.get(i));
+            return array;
+        }
+        if (this.componentType == long.class) {
+            final long[] array = new long[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.longValue(configList.get(i));
+            return array;
+        }
+        if (this.componentType == double.class) {
+            final double[] array = new double[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.doubleValue(configList.get(i));
+            return array;
+        }
+        if (this.componentType == float.class) {
+            final float[] array = new float[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.floatValue(configList.get(i));
+            return array;
+        }
+        if (this.componentType == short.class) {
+            final short[] array = new short[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.shortValue(configList.get(i));
+            return array;
+        }
+        if (this.componentType == byte.class) {
+            final byte[] array = new byte[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.byteValue(configList.get(i));
+            return array;
+        }
+        if (this.componentType == boolean.class) {
+            final boolean[] array = new boolean[size];
+            for (int i = 0; i < size; i++)
+                array[i] = ScalarCodec.bool(configList.get(i));
+            return array;
+        }
+
+        final char[] array = new char[size];
+        for (int i = 0; i < size; i++)
+            array[i] = ScalarCodec.character(configList.get(i));
+        return array;
+
+    }
+
+    @NotNull
+    @Override
+    public ConfigValue encode(@Nullable final Object value) {
+
+        if (value == null) return ConfigValueFactory.fromAnyRef(null);
+        final List<ConfigValue> configValues;
+        if (value instanceof int[]) {
+            final int[] array = (int[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final int element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef(element));
+        } else if (value instanceof long[]) {
+            final long[] array = (long[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final long element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef(element));
+        } else if (value instanceof double[]) {
+            final double[] array = (double[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final double element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef(element));
+        } else if (value instanceof float[]) {
+            final float[] array = (float[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final float element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef(element));
+        } else if (value instanceof short[]) {
+            final short[] array = (short[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final short element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef((int) element));
+        } else if (value instanceof byte[]) {
+            final byte[] array = (byte[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final byte element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef((int) element));
+        } else if (value instanceof boolean[]) {
+            final boolean[] array = (boolean[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final boolean element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef(element));
+        } else {
+            final char[] array = (char[]) value;
+            configValues = new ArrayList<>(array.length);
+            for (final char element : array)
+                configValues.add(ConfigValueFactory.fromAnyRef(String.valueOf(element)));
+        }
+
+        return ConfigValueFactory.fromIterable(configValues);
+
+    }
+
+    @NotNull
+    public Class<?> getComponentType() {
+
+        return this.componentType;
+
+    }
+
+    @NotNull
+    static PrimitiveArrayCodec of(@NotNull final Class<?> componentType) {
+
+        if (!componentType.isPrimitive() || componentType == void.class)
+            throw new IllegalArgumentException(componentType.getName() + " is not a primitive type.");
+        return new PrimitiveArrayCodec(componentType);
+
+    }
+
+}
@@ -0,0 +1,238 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import com.typesafe.config.ConfigValueType;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Codec for plain values. Boxed numbers are converted from any number or numeric string so a <code>List&lt;Long&gt;</code>
+ * also accepts values that fit into an int, strings, booleans, characters and enums are converted from their string
+ * form. Numbers that don't fit into the target type or have a fraction for an integral type are rejected with a
+ * {@link ConfigException.WrongType} like {@link com.typesafe.config.Config#getInt} does instead of being narrowed. Other
+ * types are cast from the unwrapped config value.
+ */
+
+public final class ScalarCodec implements ValueCodec<Object> {
+
+    private final Class<?> type;
+    private final Function<ConfigValue, Object> decoder;
+    // Whether values can be converted from and to the keys of a config object.
+    private final boolean keyCompatible;
+
+    private ScalarCodec(@NotNull final Class<?> type, @NotNull final Function<ConfigValue, Object> decoder, final boolean keyCompatible) {
+
+        this.type = type;
+        this.decoder = decoder;
+        this.keyCompatible = keyCompatible;
+
+    }
+
+    @Nullable
+    @Override
+    public Object decode(@NotNull final ConfigValue configValue) {
+
+        if (configValue.valueType() == ConfigValueType.NULL) return null;
+        return this.decoder.apply(configValue);
+
+    }
+
+    @NotNull
+    @Override
+    public ConfigValue encode(@Nullable final Object value) {
+
+        if (value instanceof Enum)
+            return ConfigValueFactory.fromAnyRef(((Enum<?>) value).name());
+        if (value instanceof Character)
+            return ConfigValueFactory.fromAnyRef(value.toString());
+
+        return ConfigValueFactory.fromAnyRef(value);
+
+    }
+
+    @NotNull
+    public Class<?> getType() {
+
+        return this.type;
+
+    }
+
+    public boolean isKeyCompatible() {
+
+        return this.keyCompatible;
+
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @NotNull
+    static ScalarCodec of(@NotNull final Class<?> type) {
+
+        final Class<?> boxedType = box(type);
+        if (boxedType == Object.class)
+            return new ScalarCodec(type, ConfigValue::unwrapped, true);
+        if (boxedType == String.class)
+            return new ScalarCodec(type, configValue -> String.valueOf(configValue.unwrapped()), true);
+        if (boxedType == Integer.class)
+            return new ScalarCodec(type, ScalarCodec::intValue, true);
+        if (boxedType == Long.class)
+            return new ScalarCodec(type, ScalarCodec::longValue, true);
+        if (boxedType == Short.class)
+            return new ScalarCodec(type, ScalarCodec::shortValue, true);
+        if (boxedType == Byte.class)
+            return new ScalarCodec(type, ScalarCodec::byteValue, true);
+        if (boxedType == Double.class)
+            return new ScalarCodec(type, ScalarCodec::doubleValue, true);
+        if (boxedType == Float.class)
+            return new ScalarCodec(type, ScalarCodec::floatValue, true);
+        if (boxedType == Boolean.class)
+            return new ScalarCodec(type, ScalarCodec::bool, true);
+        if (boxedType == Character.class)
+            return new ScalarCodec(type, ScalarCodec::character, true);
+        if (type.isEnum())
+            return new ScalarCodec(type, configValue -> Enum.valueOf((Class<Enum>) type, (String) configValue.unwrapped()), true);
+
+        return new ScalarCodec(type, configValue -> type.cast(configValue.unwrapped()), false);
+
+    }
+
+    @NotNull
+    static Number number(@NotNull final ConfigValue configValue, @NotNull final Function<String, Number> parser) {
+
+        final Object unwrapped = configValue.unwrapped();
+        if (unwrapped instanceof Number)
+            return (Number) unwrapped;
+        if (unwrapped instanceof String)
+            return parser.apply(((String) unwrapped).trim());
+
+        throw new ClassCastException("Expected a number but found " + configValue.valueType() + " at " + configValue.origin().description());
+
+    }
+
+    static int intValue(@NotNull final ConfigValue configValue) {
+
+        return (int) integral(configValue, Integer.MIN_VALUE, Integer.MAX_VALUE, "32-bit integer");
+
+    }
+
+    static long longValue(@NotNull final ConfigValue configValue) {
+
+        return integral(configValue, Long.MIN_VALUE, Long.MAX_VALUE, "64-bit long");
+
+    }
+
+    static short shortValue(@NotNull final ConfigValue configValue) {
+
+        return (short) integral(configValue, Short.MIN_VALUE, Short.MAX_VALUE, "16-bit short");
+
+    }
+
+    static byte byteValue(@NotNull final ConfigValue configValue) {
+
+        return (byte) integral(configValue, Byte.MIN_VALUE, Byte.MAX_VALUE, "8-bit byte");
+
+    }
+
+    static double doubleValue(@NotNull final ConfigValue configValue) {
+
+        return number(configValue, Double::valueOf).doubleValue();
+
+    }
+
+    static float floatValue(@NotNull final ConfigValue configValue) {
+
+        final double value = doubleValue(configValue);
+        // Precision may be lost, only values beyond the float range are rejected.
+        if (Math.abs(value) > Float.MAX_VALUE && !Double.isInfinite(value))
+            throw new ConfigException.WrongType(configValue.origin(), "", "32-bit float", "out-of-range value " + value);
+        return (float) value;
+
+    }
+
+    /**
+     * Converts the provided config value into an integral number within the provided range.
+     *
+     * @param configValue The config value.
+     * @param min         The smallest allowed value.
+     * @param max         The largest allowed value.
+     * @param expected    The description of the target type used in the error message.
+     * @return The number.
+     * @throws ConfigException.WrongType If the value has a fraction or is out of range.
+     */
+
+    private static long integral(@NotNull final ConfigValue configValue, final long min, final long max,
+                                 @NotNull final String expected) throws ConfigException.WrongType {
+
+        final Object unwrapped = configValue.unwrapped();
+        final long value;
+        if (unwrapped instanceof Integer || unwrapped instanceof Long) {
+            value = ((Number) unwrapped).longValue();
+        } else if (unwrapped instanceof Number) {
+            final double doubleValue = ((Number) unwrapped).doubleValue();
+            // 2^63 is the first double beyond the long range, smaller ranges are checked below.
+            if (doubleValue != Math.rint(doubleValue) || doubleValue < -0x1p63 || doubleValue >= 0x1p63)
+                throw new ConfigException.WrongType(configValue.origin(), "", expected, "value " + unwrapped);
+            value = (long) doubleValue;
+        } else if (unwrapped instanceof String) {
+            try {
+                value = Long.parseLong(((String) unwrapped).trim());
+            } catch (final NumberFormatException ex) {
+                throw new ConfigException.WrongType(configValue.origin(), "", expected, "value " + unwrapped, ex);
+            }
+        } else {
+            throw new ClassCastException("Expected a number but found " + configValue.valueType() + " at " + configValue.origin().description());
+        }
+        if (value < min || value > max)
+            throw new ConfigException.WrongType(configValue.origin(), "", expected, "out-of-range value " + value);
+
+        return value;
+
+    }
+
+    @NotNull
+    static Boolean bool(@NotNull final ConfigValue configValue) {
+
+        final Object unwrapped = configValue.unwrapped();
+        if (unwrapped instanceof Boolean)
+            return (Boolean) unwrapped;
+        if ("true".equals(unwrapped))
+            return Boolean.TRUE;
+        if ("false".equals(unwrapped))
+            return Boolean.FALSE;
+
+        throw new ClassCastException("Expected a boolean but found " + configValue.valueType() + " at " + configValue.origin().description());
+
+    }
+
+    @NotNull
+    static Character character(@NotNull final ConfigValue configValue) {
+
+        final Object unwrapped = configValue.unwrapped();
+        if (unwrapped instanceof String && ((String) unwrapped).length() == 1)
+            return ((String) unwrapped).charAt(0);
+
+        throw new ClassCastException("Expected a single character but found " + unwrapped + " at " + configValue.origin().description());
+
+    }
+
+    @NotNull
+    private static Class<?> box(@NotNull final Class<?> type) {
+
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+
+        return type;
+
+    }
+
+}
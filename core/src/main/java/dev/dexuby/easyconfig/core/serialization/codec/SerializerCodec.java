@@ -0,0 +1,50 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.serialization.ConfigurationSerializable;
+
+/**
+ * Codec delegating to a registered serializer.
+ */
+
+public final class SerializerCodec implements ValueCodec<Object> {
+
+    private final Class<?> type;
+    private final ConfigurationSerializable<Object> serializer;
+
+    @SuppressWarnings("unchecked")
+    SerializerCodec(@NotNull final Class<?> type, @NotNull final ConfigurationSerializable<?> serializer) {
+
+        this.type = type;
+        this.serializer = (ConfigurationSerializable<Object>) serializer;
+
+    }
+
+    @Nullable
+    @Override
+    public Object decode(@NotNull final ConfigValue configValue) {
+
+        return this.type.cast(this.serializer.deserialize(configValue));
+
+    }
+
+    @NotNull
+    @Override
+    public ConfigValue encode(@Nullable final Object value) {
+
+        final ConfigValue configValue = this.serializer.serialize(value);
+        return configValue != null ? configValue : ConfigValueFactory.fromAnyRef(null);
+
+    }
+
+    @NotNull
+    public ConfigurationSerializable<?> getSerializer() {
+
+        return this.serializer;
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import com.typesafe.config.ConfigValue;
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+
+/**
+ * Converts values of a single, fully resolved type from and to config values. Codecs of container types hold the
+ * codecs of their element types so a codec forms a tree matching the generic type it has been created for. All type
+ * inspection happens when the tree is created, see {@link ValueCodecs}.
+ *
+ * @param <T> The value type.
+ */
+
+public interface ValueCodec<T> {
+
+    /**
+     * Converts the provided config value.
+     *
+     * @param configValue The config value.
+     * @return The value.
+     */
+
+    @Nullable
+    T decode(@NotNull final ConfigValue configValue);
+
+    /**
+     * Converts the provided value.
+     *
+     * @param value The value.
+     * @return The config value.
+     */
+
+    @NotNull
+    ConfigValue encode(@Nullable final T value);
+
+}
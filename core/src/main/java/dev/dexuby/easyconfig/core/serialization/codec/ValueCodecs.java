@@ -0,0 +1,197 @@
+package dev.dexuby.easyconfig.core.serialization.codec;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.serialization.ConfigurationSerializable;
+import dev.dexuby.easyconfig.core.serialization.SerializerRegistry;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.IntFunction;
+
+/**
+ * Creates the codec trees of generic types. Arrays, collections and maps get container codecs wrapping the codecs of
+ * their element types, all other types use their registered serializer or are converted as plain values. Codecs
+ * created through a {@link SerializerRegistry} are cached in the registry per type, nested types share their codecs.
+ */
+
+public final class ValueCodecs {
+
+    private ValueCodecs() {
+
+    }
+
+    /**
+     * Returns the codec of the provided type, cached if the serializers are backed by a {@link SerializerRegistry}.
+     *
+     * @param type        The generic type.
+     * @param serializers The registered serializers.
+     * @param mapEncoding The encoding of all maps in the type.
+     * @return The codec.
+     */
+
+    @NotNull
+    public static ValueCodec<?> of(@NotNull final Type type,
+                                   @NotNull final Map<Class<?>, ConfigurationSerializable<?>> serializers,
+                                   @NotNull final MapEncoding mapEncoding) {
+
+        if (serializers instanceof SerializerRegistry)
+            return ((SerializerRegistry) serializers).getCodec(type, mapEncoding);
+        return create(type, serializers, mapEncoding);
+
+    }
+
+    /**
+     * Creates the codec of the provided type without caching the codec itself.
+     *
+     * @param type        The generic type.
+     * @param serializers The registered serializers.
+     * @param mapEncoding The encoding of all maps in the type.
+     * @return The codec.
+     */
+
+    @NotNull
+    public static ValueCodec<?> create(@NotNull final Type type,
+                                       @NotNull final Map<Class<?>, ConfigurationSerializable<?>> serializers,
+                                       @NotNull final MapEncoding mapEncoding) {
+
+        final Class<?> rawType = getRawType(type);
+        if (rawType.isArray() && rawType.getComponentType().isPrimitive())
+            return PrimitiveArrayCodec.of(rawType.getComponentType());
+        if (rawType.isArray()) {
+            final Type componentType = type instanceof GenericArrayType
+                    ? ((GenericArrayType) type).getGenericComponentType()
+                    : rawType.getComponentType();
+            return new ArrayCodec(rawType.getComponentType(), of(componentType, serializers, mapEncoding));
+        }
+        if (Collection.class.isAssignableFrom(rawType))
+            return new CollectionCodec(collectionFactory(rawType), of(getTypeArgument(type, 0, 1), serializers, mapEncoding));
+        if (Map.class.isAssignableFrom(rawType)) {
+            final Type keyType = getTypeArgument(type, 0, 2);
+            return new MapCodec(mapFactory(rawType), getRawType(keyType), of(keyType, serializers, mapEncoding),
+                    of(getTypeArgument(type, 1, 2), serializers, mapEncoding), mapEncoding);
+        }
+
+        final ConfigurationSerializable<?> serializer = serializers instanceof SerializerRegistry
+                ? ((SerializerRegistry) serializers).find(rawType)
+                : serializers.get(rawType);
+        if (serializer != null)
+            return new SerializerCodec(rawType, serializer);
+
+        return ScalarCodec.of(rawType);
+
+    }
+
+    /**
+     * Resolves the class of the provided type. Wildcards and type variables resolve to their first upper bound.
+     *
+     * @param type The type.
+     * @return The class.
+     */
+
+    @NotNull
+    public static Class<?> getRawType(@NotNull final Type type) {
+
+        if (type instanceof Class)
+            return (Class<?>) type;
+        if (type instanceof ParameterizedType)
+            return getRawType(((ParameterizedType) type).getRawType());
+        if (type instanceof GenericArrayType)
+            return Array.newInstance(getRawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        if (type instanceof WildcardType)
+            return getRawType(((WildcardType) type).getUpperBounds()[0]);
+        if (type instanceof TypeVariable)
+            return getRawType(((TypeVariable<?>) type).getBounds()[0]);
+
+        throw new IllegalArgumentException("Unsupported type " + type);
+
+    }
+
+    /**
+     * Type arguments of raw or differently parameterized container types are treated as {@link Object}.
+     */
+
+    @NotNull
+    private static Type getTypeArgument(@NotNull final Type type, final int index, final int expectedArguments) {
+
+        if (!(type instanceof ParameterizedType)) return Object.class;
+        final Type[] typeArguments = ((ParameterizedType) type).getActualTypeArguments();
+        return typeArguments.length == expectedArguments ? typeArguments[index] : Object.class;
+
+    }
+
+    @NotNull
+    private static IntFunction<Object> collectionFactory(@NotNull final Class<?> type) {
+
+        if (type.isAssignableFrom(ArrayList.class))
+            return ArrayList::new;
+        if (type.isAssignableFrom(LinkedHashSet.class))
+            return size -> new LinkedHashSet<>(capacity(size));
+        if (type.isAssignableFrom(TreeSet.class))
+            return size -> new TreeSet<>();
+        if (type.isAssignableFrom(ArrayDeque.class))
+            return ArrayDeque::new;
+        if (type == LinkedList.class)
+            return size -> new LinkedList<>();
+
+        return reflectiveFactory(type);
+
+    }
+
+    @NotNull
+    private static IntFunction<Object> mapFactory(@NotNull final Class<?> type) {
+
+        if (type.isAssignableFrom(LinkedHashMap.class))
+            return size -> new LinkedHashMap<>(capacity(size));
+        if (type.isAssignableFrom(TreeMap.class))
+            return size -> new TreeMap<>();
+        if (type.isAssignableFrom(ConcurrentHashMap.class))
+            return size -> new ConcurrentHashMap<>(capacity(size));
+        if (type.isAssignableFrom(ConcurrentSkipListMap.class))
+            return size -> new ConcurrentSkipListMap<>();
+
+        return reflectiveFactory(type);
+
+    }
+
+    /**
+     * Unsupported types only fail once an instance is required, fields with a default instance never need one.
+     */
+
+    @NotNull
+    private static IntFunction<Object> reflectiveFactory(@NotNull final Class<?> type) {
+
+        final Constructor<?> constructor;
+        try {
+            constructor = type.isInterface() || Modifier.isAbstract(type.getModifiers()) ? null : type.getConstructor();
+        } catch (final NoSuchMethodException ex) {
+            return size -> {
+                throw new IllegalStateException(type.getName() + " has no public zero-args constructor.");
+            };
+        }
+        if (constructor == null) {
+            return size -> {
+                throw new IllegalStateException("No implementation known for " + type.getName() + ", use a concrete type.");
+            };
+        }
+
+        return size -> {
+            try {
+                return constructor.newInstance();
+            } catch (final ReflectiveOperationException ex) {
+                throw new IllegalStateException("Failed to create " + type.getName(), ex);
+            }
+        };
+
+    }
+
+    private static int capacity(final int size) {
+
+        return (int) Math.min(Integer.MAX_VALUE, size / 0.75D + 1);
+
+    }
+
+}
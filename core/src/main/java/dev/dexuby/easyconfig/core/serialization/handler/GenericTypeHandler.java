@@ -5,17 +5,27 @@ import com.typesafe.config.ConfigOrigin;
 import com.typesafe.config.ConfigValue;
 import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
 import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.binding.FieldAccessor;
+import dev.dexuby.easyconfig.core.binding.FieldAccessors;
 import dev.dexuby.easyconfig.core.common.Holder;
 import dev.dexuby.easyconfig.core.serialization.ConfigurationSerializable;
+import dev.dexuby.easyconfig.core.serialization.SerializerRegistry;
+import dev.dexuby.easyconfig.core.serialization.codec.ValueCodec;
+import dev.dexuby.easyconfig.core.serialization.codec.ValueCodecs;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * Used to read and write complex configuration values to a configuration field. The parent is currently unused but if
- * we plan to add nested collection support in the future it will be necessary together with some major writer changes.
- * With those changes writers would probably return whatever they create in the process (like a map) so it can be used
- * by its parent to resolved nested complex values.
+ * Used to read and write complex configuration values to a configuration field. Handlers take care of the field itself,
+ * the values are converted by the codec tree of the field type (see {@link ValueCodecs}) which also covers nested
+ * arrays, collections and maps. The parent is unused since nesting is handled by the codecs.
  */
 
 public abstract class GenericTypeHandler {
@@ -25,6 +35,10 @@ public abstract class GenericTypeHandler {
     protected final Class<?> fieldType;
     protected final Class<?> owner;
     protected final GenericTypeHandler parent;
+    protected final FieldAccessor accessor;
+
+    // Codec used by decode and encode, resolved on the first call.
+    private volatile ValueCodec<Object> valueCodec;
 
     public GenericTypeHandler(@NotNull final Map<Class<?>, ConfigurationSerializable<?>> registeredSerializers,
                               @NotNull final Field field,
@@ -36,9 +50,15 @@ public abstract class GenericTypeHandler {
         this.fieldType = fieldType;
         this.owner = owner;
         this.parent = null;
+        this.accessor = FieldAccessors.of(field);
 
     }
 
+    /**
+     * @deprecated Nested values are handled by the codec tree of the field type, the parent is unused.
+     */
+
+    @Deprecated
     public GenericTypeHandler(@NotNull final Map<Class<?>, ConfigurationSerializable<?>> registeredSerializers,
                               @NotNull final Field field,
                               @NotNull final Class<?> fieldType,
@@ -50,6 +70,7 @@ public abstract class GenericTypeHandler {
         this.fieldType = fieldType;
         this.owner = owner;
         this.parent = parent;
+        this.accessor = FieldAccessors.of(field);
 
     }
 
@@ -77,6 +98,11 @@ public abstract class GenericTypeHandler {
 
     }
 
+    /**
+     * @deprecated Nested values are handled by the codec tree of the field type, the parent is unused.
+     */
+
+    @Deprecated
     public GenericTypeHandler getParent() {
 
         return this.parent;
@@ -87,9 +113,130 @@ public abstract class GenericTypeHandler {
 
     public abstract ConfigValue toConfigValue(@NotNull final ConfigOrigin origin) throws IllegalAccessException;
 
+    /**
+     * Finds the serializer of the provided type, respecting serializers registered for supertypes and interfaces if
+     * the registered serializers are backed by a {@link SerializerRegistry}.
+     *
+     * @param type The type.
+     * @return The serializer or <code>null</code> if none matches.
+     */
+
+    @Nullable
+    protected ConfigurationSerializable<?> findSerializer(@NotNull final Class<?> type) {
+
+        if (this.registeredSerializers instanceof SerializerRegistry)
+            return ((SerializerRegistry) this.registeredSerializers).find(type);
+        return this.registeredSerializers.get(type);
+
+    }
+
+    /**
+     * Returns the actual type arguments of the field value type, the generic type of {@link Holder} fields gets
+     * unwrapped. Handlers are expected to resolve these once during construction.
+     *
+     * @return The actual type arguments.
+     */
+
+    protected Type[] getValueTypeArguments() {
+
+        return ((ParameterizedType) this.getValueType()).getActualTypeArguments();
+
+    }
+
+    /**
+     * Returns the generic type of the field value, the generic type of {@link Holder} fields gets unwrapped.
+     *
+     * @return The generic value type.
+     */
+
+    protected Type getValueType() {
+
+        if (Holder.class.isAssignableFrom(this.field.getType()))
+            return ((ParameterizedType) this.field.getGenericType()).getActualTypeArguments()[0];
+        return this.field.getGenericType();
+
+    }
+
+    /**
+     * Converts the provided config value into a new value of the field value type without setting the field, used for
+     * lazily read {@link Holder} fields.
+     *
+     * @param configValue The config value.
+     * @return The converted value.
+     */
+
+    public Object decode(@NotNull final ConfigValue configValue) {
+
+        return this.getCachedValueCodec().decode(configValue);
+
+    }
+
+    /**
+     * Converts the provided value of the field value type into a config value without reading the field.
+     *
+     * @param value The value.
+     * @return The config value.
+     */
+
+    public ConfigValue encode(final Object value) {
+
+        return this.getCachedValueCodec().encode(value);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueCodec<Object> getCachedValueCodec() {
+
+        ValueCodec<Object> valueCodec = this.valueCodec;
+        if (valueCodec == null)
+            this.valueCodec = valueCodec = (ValueCodec<Object>) this.getValueCodec();
+
+        return valueCodec;
+
+    }
+
+    /**
+     * Returns the codec tree of the field value type. Codecs are cached per type if the registered serializers are
+     * backed by a {@link SerializerRegistry}. Handlers are expected to resolve the codec once during construction.
+     *
+     * @return The codec.
+     */
+
+    protected ValueCodec<?> getValueCodec() {
+
+        final ConfigurationValue configurationValue = this.field.getAnnotation(ConfigurationValue.class);
+        final MapEncoding mapEncoding = configurationValue != null ? configurationValue.mapEncoding() : MapEncoding.ENTRY_LIST;
+        return ValueCodecs.of(this.getValueType(), this.registeredSerializers, mapEncoding);
+
+    }
+
+    /**
+     * Creates a new instance of the field type for the provided number of elements. A constructor taking the initial
+     * capacity is preferred so the instance doesn't have to grow while being filled.
+     *
+     * @param size The number of elements.
+     * @return The new instance.
+     * @throws ReflectiveOperationException If the field type has no usable constructor.
+     */
+
+    protected Object newInstance(final int size) throws ReflectiveOperationException {
+
+        final Constructor<?> constructor;
+        try {
+            constructor = this.fieldType.getConstructor(int.class);
+        } catch (final NoSuchMethodException ex) {
+            return this.fieldType.getConstructor().newInstance();
+        }
+
+        // Hash based types take a capacity that has to account for their load factor.
+        final boolean hashed = Map.class.isAssignableFrom(this.fieldType) || Set.class.isAssignableFrom(this.fieldType);
+        return constructor.newInstance(hashed ? (int) Math.min(Integer.MAX_VALUE, size / 0.75D + 1) : size);
+
+    }
+
     protected Object getFieldValue() throws IllegalAccessException {
 
-        Object fieldValue = this.field.get(this.owner);
+        Object fieldValue = this.accessor.get(null);
         if (fieldValue instanceof Holder)
             fieldValue = ((Holder<?>) fieldValue).get();
 
@@ -97,4 +244,35 @@ public abstract class GenericTypeHandler {
 
     }
 
+    /**
+     * Returns the raw value of the field without unwrapping {@link Holder} fields.
+     *
+     * @return The raw field value.
+     * @throws IllegalAccessException If the field couldn't be read.
+     */
+
+    protected Object getRawFieldValue() throws IllegalAccessException {
+
+        return this.accessor.get(null);
+
+    }
+
+    /**
+     * Sets the value of the field respecting {@link Holder} fields.
+     *
+     * @param value The value.
+     * @throws IllegalAccessException If the field couldn't be set.
+     */
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected void setFieldValue(final Object value) throws IllegalAccessException {
+
+        if (Holder.class.isAssignableFrom(this.field.getType())) {
+            ((Holder) this.accessor.get(null)).set(value);
+        } else {
+            this.accessor.set(null, value);
+        }
+
+    }
+
 }
@@ -0,0 +1,61 @@
+package dev.dexuby.easyconfig.core.util;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easyconfig.core.Constants;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AsyncExecutors {
+
+    private AsyncExecutors() {
+
+    }
+
+    /**
+     * Returns the shared default executor of the asynchronous resolver methods. On Java 21+ every task runs on its own
+     * virtual thread, so blocking file I/O of many configurations never has to wait for a pool thread. On older runtimes
+     * an unbounded pool of daemon threads is used, idle threads are removed after a minute.
+     *
+     * @return The default executor.
+     */
+
+    @NotNull
+    public static Executor defaultExecutor() {
+
+        return DefaultExecutorHolder.EXECUTOR;
+
+    }
+
+    @NotNull
+    private static Executor createDefaultExecutor() {
+
+        try {
+            // Looked up reflectively so the library keeps running on Java 8.
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) method.invoke(null);
+        } catch (final NoSuchMethodException ignored) {
+            // Virtual threads aren't available before Java 21.
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            Constants.LOGGER.warn("Failed to create virtual thread executor, falling back to platform threads.", ex);
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "easy-config-io-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    }
+
+    private static final class DefaultExecutorHolder {
+
+        // Created on first use only.
+        private static final Executor EXECUTOR = createDefaultExecutor();
+
+    }
+
+}
@@ -0,0 +1,218 @@
+package dev.dexuby.easyconfig.core.util;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+public final class FileManager {
+
+    // Buffers are flipped and cleared through Buffer since ByteBuffer only overrides those methods since Java 9.
+    private static final int BUFFER_SIZE = 8192;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private FileManager() {
+
+    }
+
+    /**
+     * Writes the provided content UTF-8 encoded to the target path unless the file already has the exact same content.
+     * The content is written to a temporary file next to the target first which then replaces the target with an atomic
+     * move if the file system supports it, so readers never see a partially written file.
+     *
+     * @param targetPath The target path.
+     * @param content    The content.
+     * @return <code>true</code> if the file has been written, <code>false</code> if the content was unchanged.
+     * @throws IOException If reading the existing file or writing the new one fails.
+     */
+
+    public static boolean writeIfChanged(@NotNull final Path targetPath, @NotNull final CharSequence content) throws IOException {
+
+        final ContentDigest contentDigest = digest(content);
+        if (Files.isRegularFile(targetPath)
+                && Files.size(targetPath) == contentDigest.length
+                && Arrays.equals(hash(targetPath), contentDigest.hash))
+            return false;
+
+        replaceAtomically(targetPath, channel -> encode(content, channel));
+
+        return true;
+
+    }
+
+    /**
+     * Writes the provided bytes to the target path through a temporary file that then replaces the target with an
+     * atomic move if the file system supports it.
+     *
+     * @param targetPath The target path.
+     * @param content    The content.
+     * @throws IOException If writing the file fails.
+     */
+
+    public static void writeAtomically(@NotNull final Path targetPath, final byte[] content) throws IOException {
+
+        replaceAtomically(targetPath, channel -> {
+            final ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        });
+
+    }
+
+    private static void replaceAtomically(@NotNull final Path targetPath, @NotNull final ChannelWriter channelWriter) throws IOException {
+
+        final Path absolutePath = targetPath.toAbsolutePath();
+        final Path temporaryPath = absolutePath.resolveSibling("." + absolutePath.getFileName() + "." + System.nanoTime() + ".tmp");
+        try {
+            try (final FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                channelWriter.write(channel);
+                channel.force(false);
+            }
+            copyPermissions(absolutePath, temporaryPath);
+            try {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(temporaryPath, absolutePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+
+    }
+
+    /**
+     * Streams the UTF-8 encoded content through a fixed size buffer into the channel without materializing the whole
+     * encoded content in memory.
+     */
+
+    private static void encode(@NotNull final CharSequence content, @NotNull final FileChannel channel) throws IOException {
+
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        final CharBuffer input = CharBuffer.wrap(content);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        CoderResult result;
+        do {
+            result = encoder.encode(input, buffer, true);
+            if (result.isError())
+                result.throwException();
+            drain(buffer, channel);
+        } while (result.isOverflow());
+        while (encoder.flush(buffer).isOverflow())
+            drain(buffer, channel);
+        drain(buffer, channel);
+
+    }
+
+    private static void drain(@NotNull final ByteBuffer buffer, @NotNull final FileChannel channel) throws IOException {
+
+        ((Buffer) buffer).flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        ((Buffer) buffer).clear();
+
+    }
+
+    private static ContentDigest digest(@NotNull final CharSequence content) throws IOException {
+
+        final MessageDigest messageDigest = createMessageDigest();
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        final CharBuffer input = CharBuffer.wrap(content);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long length = 0;
+        CoderResult result;
+        do {
+            result = encoder.encode(input, buffer, true);
+            if (result.isError())
+                result.throwException();
+            ((Buffer) buffer).flip();
+            length += buffer.remaining();
+            messageDigest.update(buffer);
+            ((Buffer) buffer).clear();
+        } while (result.isOverflow());
+        encoder.flush(buffer);
+        ((Buffer) buffer).flip();
+        length += buffer.remaining();
+        messageDigest.update(buffer);
+
+        return new ContentDigest(messageDigest.digest(), length);
+
+    }
+
+    /**
+     * Computes the SHA-256 hash of the content of a file.
+     *
+     * @param path The path of the file.
+     * @return The hash.
+     * @throws IOException If reading the file fails.
+     */
+
+    public static byte[] hash(@NotNull final Path path) throws IOException {
+
+        final MessageDigest messageDigest = createMessageDigest();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                ((Buffer) buffer).flip();
+                messageDigest.update(buffer);
+                ((Buffer) buffer).clear();
+            }
+        }
+
+        return messageDigest.digest();
+
+    }
+
+    private static void copyPermissions(@NotNull final Path sourcePath, @NotNull final Path targetPath) {
+
+        if (!Files.exists(sourcePath)) return;
+        try {
+            Files.setPosixFilePermissions(targetPath, Files.getPosixFilePermissions(sourcePath));
+        } catch (final UnsupportedOperationException | IOException ignored) {
+            // Not a POSIX file system, the default permissions apply.
+        }
+
+    }
+
+    private static MessageDigest createMessageDigest() {
+
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(ex);
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+
+        void write(@NotNull final FileChannel channel) throws IOException;
+
+    }
+
+    private static final class ContentDigest {
+
+        private final byte[] hash;
+        private final long length;
+
+        private ContentDigest(final byte[] hash, final long length) {
+
+            this.hash = hash;
+            this.length = length;
+
+        }
+
+    }
+
+}
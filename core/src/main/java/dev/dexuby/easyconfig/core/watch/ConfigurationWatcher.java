@@ -0,0 +1,293 @@
+package dev.dexuby.easyconfig.core.watch;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationListener;
+import dev.dexuby.easyconfig.core.ConfigurationLoadResult;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.Constants;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Watches the files of all resolved configurations and reloads a configuration once its file changed. Bursts of file
+ * system events (editors usually write a file in multiple steps) are debounced per configuration class, reloads are
+ * executed on the provided scheduler and never on the thread that changed the file. Changes written by the resolver
+ * itself through {@link ConfigurationResolver#saveConfigToFile} don't trigger a reload.
+ */
+
+public final class ConfigurationWatcher implements Closeable {
+
+    private final ConfigurationResolver configurationResolver;
+    private final boolean ownsScheduler;
+    private final long debounceMillis;
+    private final Map<Path, Set<Class<?>>> watchedFiles = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    // State of the watched files right after the resolver wrote them.
+    private final Map<Path, FileState> writtenFiles = new ConcurrentHashMap<>();
+    private final ConfigurationListener writeListener = new ConfigurationListener() {
+
+        @Override
+        public void onSaved(@NotNull final File file, final long renderNanos, final long writeNanos, final long bytes) {
+
+            if (bytes > 0)
+                ConfigurationWatcher.this.recordWrite(file.toPath().toAbsolutePath().normalize());
+
+        }
+
+    };
+
+    // Owned schedulers are created by start and shut down by close.
+    private volatile ScheduledExecutorService scheduler;
+
+    private WatchService watchService;
+    private Thread watchThread;
+
+    /**
+     * Creates a watcher that reloads on its own daemon thread, the thread is started by {@link #start()} and stopped by
+     * {@link #close()}.
+     *
+     * @param configurationResolver The resolver used to reload configurations.
+     * @param debounceMillis        The time in milliseconds without further events before a reload gets executed.
+     */
+
+    public ConfigurationWatcher(@NotNull final ConfigurationResolver configurationResolver, final long debounceMillis) {
+
+        this(configurationResolver, null, true, debounceMillis);
+
+    }
+
+    /**
+     * Creates a watcher that reloads on the provided scheduler, the scheduler won't be shut down by {@link #close()}.
+     *
+     * @param configurationResolver The resolver used to reload configurations.
+     * @param scheduler             The scheduler reloads get executed on.
+     * @param debounceMillis        The time in milliseconds without further events before a reload gets executed.
+     */
+
+    public ConfigurationWatcher(@NotNull final ConfigurationResolver configurationResolver,
+                                @NotNull final ScheduledExecutorService scheduler,
+                                final long debounceMillis) {
+
+        this(configurationResolver, scheduler, false, debounceMillis);
+
+    }
+
+    private ConfigurationWatcher(@NotNull final ConfigurationResolver configurationResolver,
+                                 @Nullable final ScheduledExecutorService scheduler,
+                                 final boolean ownsScheduler,
+                                 final long debounceMillis) {
+
+        this.configurationResolver = configurationResolver;
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.debounceMillis = debounceMillis;
+
+    }
+
+    /**
+     * Starts watching the files of all configurations resolved by the last
+     * {@link ConfigurationResolver#resolveAndLoad} call. A closed watcher can be started again.
+     *
+     * @throws IOException           If a directory couldn't be registered.
+     * @throws IllegalStateException If the watcher is already running.
+     */
+
+    public synchronized void start() throws IOException, IllegalStateException {
+
+        if (this.watchService != null)
+            throw new IllegalStateException("Watcher is already running.");
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        if (this.ownsScheduler) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "easy-config-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.configurationResolver.addListener(this.writeListener);
+        final Set<Path> directories = new HashSet<>();
+        for (final Map.Entry<Class<?>, Configuration> entry : this.configurationResolver.getResolvedConfigurations().entrySet()) {
+            final Path file = this.configurationResolver.getConfigurationBinding(entry.getKey(), entry.getValue())
+                    .getFile().toPath().toAbsolutePath().normalize();
+            this.watchedFiles.computeIfAbsent(file, key -> ConcurrentHashMap.newKeySet()).add(entry.getKey());
+            if (file.getParent() != null && directories.add(file.getParent()))
+                file.getParent().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+
+        this.watchThread = new Thread(this::watch, "easy-config-watcher");
+        this.watchThread.setDaemon(true);
+        this.watchThread.start();
+
+    }
+
+    /**
+     * Stops watching, pending reloads get cancelled.
+     */
+
+    @Override
+    public synchronized void close() {
+
+        if (this.watchService == null) return;
+        try {
+            this.watchService.close();
+        } catch (final IOException ex) {
+            Constants.LOGGER.warn("Failed to close configuration watch service.", ex);
+        }
+        this.watchService = null;
+        this.watchThread.interrupt();
+        this.watchThread = null;
+        this.configurationResolver.removeListener(this.writeListener);
+        this.pendingReloads.values().forEach(future -> future.cancel(false));
+        this.pendingReloads.clear();
+        this.watchedFiles.clear();
+        this.writtenFiles.clear();
+        if (this.ownsScheduler) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+
+    }
+
+    private void watch() {
+
+        final WatchService service = this.watchService;
+        while (!Thread.currentThread().isInterrupted()) {
+            final WatchKey watchKey;
+            try {
+                watchKey = service.take();
+            } catch (final InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+
+            final Path directory = (Path) watchKey.watchable();
+            for (final WatchEvent<?> event : watchKey.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // Events got lost, reload everything in this directory.
+                    this.watchedFiles.forEach((file, types) -> {
+                        if (directory.equals(file.getParent()))
+                            types.forEach(type -> this.scheduleReload(file, type));
+                    });
+                    continue;
+                }
+                final Path file = directory.resolve((Path) event.context());
+                final Set<Class<?>> types = this.watchedFiles.get(file);
+                if (types != null)
+                    types.forEach(type -> this.scheduleReload(file, type));
+            }
+            watchKey.reset();
+        }
+
+    }
+
+    private void scheduleReload(@NotNull final Path file, @NotNull final Class<?> type) {
+
+        final ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler == null) return;
+        try {
+            this.pendingReloads.compute(type, (key, pending) -> {
+                if (pending != null)
+                    pending.cancel(false);
+                // The task removes itself once it runs, removing the same key waits until compute assigned the future.
+                final ScheduledFuture<?>[] future = new ScheduledFuture<?>[1];
+                future[0] = scheduler.schedule(() -> {
+                    this.pendingReloads.remove(key, future[0]);
+                    this.reload(file, key);
+                }, this.debounceMillis, TimeUnit.MILLISECONDS);
+                return future[0];
+            });
+        } catch (final RejectedExecutionException ex) {
+            // The watcher got closed concurrently.
+        }
+
+    }
+
+    private void reload(@NotNull final Path file, @NotNull final Class<?> type) {
+
+        final FileState writtenState = this.writtenFiles.get(file);
+        if (writtenState != null && writtenState.equals(FileState.of(file)))
+            return;
+
+        final ConfigurationLoadResult result = this.configurationResolver.reload(type, "file change");
+        if (result.isSuccessful()) {
+            Constants.LOGGER.info("Reloaded configuration: " + type.getName());
+        } else {
+            Constants.LOGGER.warn("Reloaded configuration " + type.getName() + " with " + result.getFailures().get(type).size() + " failure(s).");
+        }
+
+    }
+
+    private void recordWrite(@NotNull final Path file) {
+
+        if (!this.watchedFiles.containsKey(file)) return;
+        final FileState state = FileState.of(file);
+        if (state != null) {
+            this.writtenFiles.put(file, state);
+        } else {
+            this.writtenFiles.remove(file);
+        }
+
+    }
+
+    /**
+     * Modification time, size and identity of a file, used to recognize files that haven't changed since the
+     * resolver wrote them.
+     */
+
+    private static final class FileState {
+
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final Object fileKey;
+
+        private FileState(@NotNull final BasicFileAttributes attributes) {
+
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.fileKey = attributes.fileKey();
+
+        }
+
+        @Nullable
+        static FileState of(@NotNull final Path file) {
+
+            try {
+                return new FileState(Files.readAttributes(file, BasicFileAttributes.class));
+            } catch (final IOException ex) {
+                return null;
+            }
+
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+
+            if (this == obj) return true;
+            if (obj == null || getClass() != obj.getClass()) return false;
+
+            final FileState input = (FileState) obj;
+            return this.size == input.size
+                    && this.lastModifiedTime.equals(input.lastModifiedTime)
+                    && Objects.equals(this.fileKey, input.fileKey);
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(this.lastModifiedTime, this.size, this.fileKey);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+package dev.dexuby.easyconfig.core;
+
+import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easycommon.external.jetbrains.annotations.Nullable;
+import dev.dexuby.easyconfig.core.binding.FieldBinding;
+import jdk.jfr.*;
+
+import java.io.File;
+
+/**
+ * Java 11+ variant of {@link FlightRecorderListener}. Events are only created while JFR is initialized, field bindings
+ * are only recorded if they took at least the threshold of the <code>easyconfig.jfr.slowFieldMillis</code> system
+ * property, 1 ms by default.
+ */
+
+final class FlightRecorderListener implements ConfigurationListener {
+
+    private static final long SLOW_FIELD_NANOS = Long.getLong("easyconfig.jfr.slowFieldMillis", 1L) * 1_000_000L;
+
+    // Parse time of the configuration currently loaded by the thread, a load runs on a single thread.
+    private final ThreadLocal<long[]> parseNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    private FlightRecorderListener() {
+
+    }
+
+    @Nullable
+    static FlightRecorderListener create() {
+
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, FlightRecorderListener.class.getClassLoader());
+            return new FlightRecorderListener();
+        } catch (final ClassNotFoundException | LinkageError ex) {
+            // The jdk.jfr module isn't part of the runtime image.
+            return null;
+        }
+
+    }
+
+    boolean isEnabled() {
+
+        return FlightRecorder.isInitialized();
+
+    }
+
+    @Override
+    public void onParsed(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final long bytes) {
+
+        this.parseNanos.get()[0] = nanos;
+
+    }
+
+    @Override
+    public void onFieldBound(@NotNull final FieldBinding fieldBinding, final long nanos, final boolean updated) {
+
+        if (nanos < SLOW_FIELD_NANOS) return;
+        final FieldBindEvent event = new FieldBindEvent();
+        if (!event.isEnabled()) return;
+        event.configuration = fieldBinding.getOwner().getName();
+        event.path = fieldBinding.getPath();
+        if (fieldBinding.getGenericTypeHandler() != null) {
+            event.handler = fieldBinding.getGenericTypeHandler().getClass().getName();
+        } else if (fieldBinding.getSerializer() != null) {
+            event.handler = fieldBinding.getSerializer().getClass().getName();
+        }
+        event.bindDuration = nanos;
+        event.updated = updated;
+        event.commit();
+
+    }
+
+    @Override
+    public void onSaved(@NotNull final File file, final long renderNanos, final long writeNanos, final long bytes) {
+
+        final SaveEvent event = new SaveEvent();
+        if (!event.isEnabled()) return;
+        event.file = file.getAbsolutePath();
+        event.bytes = bytes;
+        event.renderDuration = renderNanos;
+        event.writeDuration = writeNanos;
+        event.commit();
+
+    }
+
+    @Override
+    public void onLoaded(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final int fields,
+                         final long bytesRead, final boolean saved) {
+
+        final long[] parseNanos = this.parseNanos.get();
+        final LoadEvent event = new LoadEvent();
+        if (event.isEnabled()) {
+            event.configuration = type.getName();
+            event.file = file.getAbsolutePath();
+            event.size = bytesRead;
+            event.parseDuration = parseNanos[0];
+            event.loadDuration = nanos;
+            event.fields = fields;
+            event.saved = saved;
+            event.commit();
+        }
+        parseNanos[0] = 0;
+
+    }
+
+    @Override
+    public void onReload(@NotNull final Class<?> type, @NotNull final String trigger) {
+
+        final ReloadEvent event = new ReloadEvent();
+        if (!event.isEnabled()) return;
+        event.configuration = type.getName();
+        event.trigger = trigger;
+        event.commit();
+
+    }
+
+    @Name("dev.dexuby.easyconfig.ConfigurationLoad")
+    @Label("Configuration Load")
+    @Category("EasyConfig")
+    @Description("A configuration file has been parsed and bound.")
+    @StackTrace(false)
+    static final class LoadEvent extends Event {
+
+        @Label("Configuration")
+        String configuration;
+
+        @Label("File")
+        String file;
+
+        @Label("Size")
+        @DataAmount
+        long size;
+
+        @Label("Parse Duration")
+        @Timespan
+        long parseDuration;
+
+        @Label("Load Duration")
+        @Timespan
+        long loadDuration;
+
+        @Label("Fields")
+        int fields;
+
+        @Label("Saved")
+        @Description("Missing values have been written to the file.")
+        boolean saved;
+
+    }
+
+    @Name("dev.dexuby.easyconfig.FieldBind")
+    @Label("Slow Configuration Field Bind")
+    @Category("EasyConfig")
+    @Description("Binding a single configuration value took longer than the threshold.")
+    @StackTrace(false)
+    static final class FieldBindEvent extends Event {
+
+        @Label("Configuration")
+        String configuration;
+
+        @Label("Path")
+        String path;
+
+        @Label("Handler")
+        @Description("Generic type handler or serializer of the value.")
+        String handler;
+
+        @Label("Bind Duration")
+        @Timespan
+        long bindDuration;
+
+        @Label("Updated")
+        boolean updated;
+
+    }
+
+    @Name("dev.dexuby.easyconfig.ConfigurationSave")
+    @Label("Configuration Save")
+    @Category("EasyConfig")
+    @Description("A configuration has been rendered and written.")
+    @StackTrace(false)
+    static final class SaveEvent extends Event {
+
+        @Label("File")
+        String file;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytes;
+
+        @Label("Render Duration")
+        @Timespan
+        long renderDuration;
+
+        @Label("Write Duration")
+        @Timespan
+        long writeDuration;
+
+    }
+
+    @Name("dev.dexuby.easyconfig.ConfigurationReload")
+    @Label("Configuration Reload")
+    @Category("EasyConfig")
+    @Description("A reload of a configuration has been triggered.")
+    static final class ReloadEvent extends Event {
+
+        @Label("Configuration")
+        String configuration;
+
+        @Label("Trigger")
+        String trigger;
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.ConfigFactory;
+import dev.dexuby.easyconfig.core.ConfigurationIndex;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.binding.ConfigurationBinder;
+import dev.dexuby.easyconfig.core.binding.FieldAccessor;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.test.processortest.HiddenTypeTestConfig;
+import dev.dexuby.easyconfig.core.test.processortest.OuterTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.PrimitiveTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.ResolverTestConfig;
+import dev.dexuby.easyconfig.core.test.watchertest.WatcherTestConfig;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConfigurationIndexTest {
+
+    @Test
+    public void testIndex() {
+
+        final ConfigurationIndex configurationIndex = ConfigurationIndex.load(this.getClass().getClassLoader(),
+                ResolverTestConfig.class.getPackage().getName());
+        assertNotNull(configurationIndex);
+        assertEquals(3, configurationIndex.findConfigurations().size());
+        assertTrue(configurationIndex.findConfigurations().containsKey(PrimitiveTestConfig.class));
+        assertFalse(configurationIndex.getConfigurations().contains(WatcherTestConfig.class.getName()));
+        assertEquals(2, configurationIndex.findSerializers().size());
+
+    }
+
+    @Test
+    public void testGeneratedBinder() throws ReflectiveOperationException {
+
+        final ConfigurationBinder configurationBinder = (ConfigurationBinder) Class.forName(ConfigurationBinder.getBinderName(ResolverTestConfig.class))
+                .getConstructor().newInstance();
+        assertEquals(3, configurationBinder.getFields().size());
+        assertSame(ResolverTestConfig.TEST_VALUE_1, configurationBinder.getFields().get(0).getAccessor().get(null));
+
+    }
+
+    @Test
+    public void testInaccessibleFields() throws Exception {
+
+        // Binders can't name private nested configurations, private field types or private fields, these fields are
+        // accessed through method handles.
+        final Class<?> privateNestedType = Class.forName(OuterTestConfig.class.getName() + "$PrivateNestedConfig");
+        final ConfigurationBinder nestedBinder = (ConfigurationBinder) Class.forName(ConfigurationBinder.getBinderName(privateNestedType))
+                .getConstructor().newInstance();
+        assertEquals(1, nestedBinder.getFields().size());
+        final Field nestedField = privateNestedType.getField("NESTED_VALUE");
+        nestedField.setAccessible(true);
+        final FieldAccessor nestedAccessor = nestedBinder.getFields().get(0).getAccessor();
+        assertSame(nestedField.get(null), nestedAccessor.get(null));
+        assertThrows(IllegalAccessException.class, () -> nestedAccessor.set(null, Holder.of("other")));
+
+        final ConfigurationBinder hiddenTypeBinder = (ConfigurationBinder) Class.forName(ConfigurationBinder.getBinderName(HiddenTypeTestConfig.class))
+                .getConstructor().newInstance();
+        assertSame(HiddenTypeTestConfig.VISIBLE_VALUE, hiddenTypeBinder.getFields().get(0).getAccessor().get(null));
+        final FieldAccessor hiddenAccessor = hiddenTypeBinder.getFields().get(1).getAccessor();
+        final Object hiddenValue = hiddenAccessor.get(null);
+        assertSame(HiddenTypeTestConfig.HIDDEN_VALUE, hiddenValue);
+        hiddenAccessor.set(null, null);
+        assertNull(HiddenTypeTestConfig.HIDDEN_VALUE);
+        hiddenAccessor.set(null, hiddenValue);
+        final FieldAccessor privateAccessor = hiddenTypeBinder.getFields().get(2).getAccessor();
+        assertEquals(1, privateAccessor.get(null));
+        privateAccessor.set(null, 2);
+        assertEquals(2, privateAccessor.get(null));
+        assertThrows(ClassCastException.class, () -> privateAccessor.set(null, "wrong"));
+
+        final ConfigurationResolver configurationResolver = spy(new ConfigurationResolver(mock(EasyReflect.class)));
+        doReturn(ConfigFactory.parseString("nested-value = loaded")).when(configurationResolver).loadConfigFromFile(any());
+        doNothing().when(configurationResolver).saveDefaultConfiguration(any(), any());
+        doNothing().when(configurationResolver).saveConfigToFile(any(), any());
+        assertTrue(configurationResolver.load(privateNestedType).isSuccessful());
+        assertEquals("loaded", ((Holder<?>) nestedField.get(null)).get());
+
+    }
+
+    @Test
+    public void testResolveWithIndex() {
+
+        final EasyReflect easyReflect = mock(EasyReflect.class);
+        final ConfigurationResolver configurationResolver = spy(new ConfigurationResolver(easyReflect));
+        configurationResolver.setConfigurationIndex(ConfigurationIndex.load(this.getClass().getClassLoader(),
+                ResolverTestConfig.class.getPackage().getName()));
+        doReturn(ConfigFactory.parseString("test-value-1 = indexed")).when(configurationResolver).loadConfigFromFile(any());
+        doNothing().when(configurationResolver).saveDefaultConfiguration(any(), any());
+        doNothing().when(configurationResolver).saveConfigToFile(any(), any());
+
+        configurationResolver.resolveSerializers();
+        assertEquals(3, configurationResolver.getRegisteredSerializers().size());
+
+        configurationResolver.resolveAndLoad();
+        assertEquals("indexed", ResolverTestConfig.TEST_VALUE_1.get());
+        verifyNoInteractions(easyReflect);
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package dev.dexuby.easyconfig.core.test;
+
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.InstanceLoadResult;
+import dev.dexuby.easyconfig.core.binding.SharedValues;
+import dev.dexuby.easyconfig.core.test.instancetest.TenantTestConfig;
+import dev.dexuby.easyconfig.core.test.util.MultiLine;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigurationInstanceTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ConfigurationResolver configurationResolver = new ConfigurationResolver(EasyReflect.builder()
+            .classLoader(this.getClass().getClassLoader())
+            .resolvePackage(TenantTestConfig.class.getPackage().getName())
+            .build());
+
+    @Test
+    public void testLoadInstances() throws IOException {
+
+        final Map<String, File> directories = new LinkedHashMap<>();
+        directories.put("a", this.createTenant("a", "name = a\nservers = [first, second]\nlimits { requests = 10 }"));
+        directories.put("b", this.createTenant("b", "name = b\nservers = [first, second]\nlimits { requests = 10 }\nmax-connections = 5"));
+        directories.put("c", this.directory.resolve("c").toFile());
+
+        final SharedValues sharedValues = new SharedValues();
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        final InstanceLoadResult<String, TenantTestConfig> result;
+        try {
+            result = this.configurationResolver.loadInstances(TenantTestConfig.class, directories, executorService, sharedValues);
+        } finally {
+            executorService.shutdown();
+        }
+        assertTrue(result.isSuccessful());
+        assertEquals(3, result.getInstances().size());
+
+        final TenantTestConfig a = result.getInstances().get("a");
+        final TenantTestConfig b = result.getInstances().get("b");
+        assertEquals("a", a.name.get());
+        assertEquals("b", b.name.get());
+        assertEquals(Arrays.asList("first", "second"), a.servers.get());
+        assertEquals(10, a.maxConnections.get());
+        assertEquals(5, b.maxConnections.get());
+
+        // Equal values are decoded once and shared as unmodifiable views.
+        assertSame(a.servers.get(), b.servers.get());
+        assertSame(a.limits, b.limits);
+        assertEquals(Collections.singletonMap("requests", 10), a.limits);
+        assertThrows(UnsupportedOperationException.class, () -> a.servers.get().add("third"));
+        assertEquals(4, sharedValues.size());
+
+        // Missing files are created with the default values of the instance.
+        final TenantTestConfig c = result.getInstances().get("c");
+        assertEquals("unnamed", c.name.get());
+        final Path file = this.directory.resolve("c").resolve("config").resolve("tenant.conf");
+        assertTrue(Files.isRegularFile(file));
+        assertTrue(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains("max-connections"));
+
+    }
+
+    @Test
+    public void testStaticLoadRejected() {
+
+        assertThrows(IllegalArgumentException.class, () -> this.configurationResolver.load(TenantTestConfig.class));
+        this.configurationResolver.resolveAndLoad();
+        assertFalse(this.configurationResolver.getResolvedConfigurations().containsKey(TenantTestConfig.class));
+
+    }
+
+    private File createTenant(final String name, final String content) throws IOException {
+
+        final Path configDirectory = Files.createDirectories(this.directory.resolve(name).resolve("config"));
+        Files.write(configDirectory.resolve("tenant.conf"), MultiLine.empty().appendLine(content).toString().getBytes(StandardCharsets.UTF_8));
+        return configDirectory.getParent().toFile();
+
+    }
+
+}
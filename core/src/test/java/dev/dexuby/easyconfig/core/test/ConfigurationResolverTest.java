@@ -2,17 +2,40 @@ package dev.dexuby.easyconfig.core.test;
 
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 import dev.dexuby.easycommon.external.jetbrains.annotations.NotNull;
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationChangeEvent;
+import dev.dexuby.easyconfig.core.ConfigurationChangeListener;
+import dev.dexuby.easyconfig.core.ConfigurationListener;
+import dev.dexuby.easyconfig.core.ConfigurationLoadResult;
 import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.binding.ConfigurationBinding;
+import dev.dexuby.easyconfig.core.binding.FieldBinding;
+import dev.dexuby.easyconfig.core.common.ChangeListener;
+import dev.dexuby.easyconfig.core.test.failuretest.BrokenTestConfig;
+import dev.dexuby.easyconfig.core.test.failuretest.ValidTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.Foo;
+import dev.dexuby.easyconfig.core.test.resolvertest.LazyTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.PrimitiveTestConfig;
 import dev.dexuby.easyconfig.core.test.resolvertest.ResolverTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.SingletonFooSerializer;
 import dev.dexuby.easyconfig.core.test.util.MultiLine;
 import dev.dexuby.easyreflect.EasyReflect;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import java.util.Map;
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class ConfigurationResolverTest {
@@ -70,6 +93,401 @@ public class ConfigurationResolverTest {
 
     }
 
+    @Test
+    public void testResolvePrimitiveHolders() {
+
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("int-value = 10")
+                        .appendLine("long-value = 20000000000")
+                        .appendLine("double-value = 0.25")
+                        .appendLine("boolean-value = true")
+                        .toString()
+        );
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(config);
+        configurationResolver.resolveAndLoad();
+
+        assertEquals(10, PrimitiveTestConfig.INT_VALUE.get());
+        assertEquals(20000000000L, PrimitiveTestConfig.LONG_VALUE.get());
+        assertEquals(0.25D, PrimitiveTestConfig.DOUBLE_VALUE.get());
+        assertTrue(PrimitiveTestConfig.BOOLEAN_VALUE.get());
+        assertEquals(1, PrimitiveTestConfig.INT_VALUE.getDefaultValue());
+
+        // Primitive holders can be subscribed to like every other holder.
+        final List<Runnable> tasks = new ArrayList<>();
+        configurationResolver.setChangeExecutor(tasks::add);
+        final List<String> changes = new ArrayList<>();
+        final ChangeListener<Integer> listener = (oldValue, newValue) -> changes.add(oldValue + "->" + newValue);
+        PrimitiveTestConfig.INT_VALUE.subscribe(listener);
+        try {
+            final long version = PrimitiveTestConfig.INT_VALUE.getVersion();
+            doReturn(config.withValue("int-value", ConfigValueFactory.fromAnyRef(11))).when(configurationResolver).loadConfigFromFile(any());
+            configurationResolver.resolveAndLoad();
+            assertEquals(version + 1, PrimitiveTestConfig.INT_VALUE.getVersion());
+            assertEquals(1, tasks.size());
+            tasks.remove(0).run();
+            assertEquals(Collections.singletonList("10->11"), changes);
+        } finally {
+            PrimitiveTestConfig.INT_VALUE.unsubscribe(listener);
+        }
+
+    }
+
+    @Test
+    public void testBindingPlanCache() {
+
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("test-value-1 = first")
+                        .toString()
+        );
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(config);
+        final Configuration configuration = ResolverTestConfig.class.getAnnotation(Configuration.class);
+        final ConfigurationBinding configurationBinding = configurationResolver.getConfigurationBinding(ResolverTestConfig.class, configuration);
+        assertEquals(3, configurationBinding.getFieldBindings().size());
+
+        configurationResolver.resolveAndLoad();
+        assertEquals("first", ResolverTestConfig.TEST_VALUE_1.get());
+        assertSame(configurationBinding, configurationResolver.getConfigurationBinding(ResolverTestConfig.class, configuration));
+
+        doReturn(ConfigFactory.parseString("test-value-1 = second")).when(configurationResolver).loadConfigFromFile(any());
+        configurationResolver.resolveAndLoad();
+        assertEquals("second", ResolverTestConfig.TEST_VALUE_1.get());
+
+        configurationResolver.registerSerializer(Foo.class, SingletonFooSerializer.getInstance());
+        assertNotSame(configurationBinding, configurationResolver.getConfigurationBinding(ResolverTestConfig.class, configuration));
+
+        // The rebuilt plan keeps the last read values of fields whose decoding didn't change.
+        ResolverTestConfig.TEST_VALUE_1.set("manual");
+        configurationResolver.resolveAndLoad();
+        assertEquals("manual", ResolverTestConfig.TEST_VALUE_1.get());
+
+    }
+
+    @Test
+    public void testIncrementalReload() {
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(ConfigFactory.parseString("test-value-1 = bound"));
+        configurationResolver.resolveAndLoad();
+        assertEquals("bound", ResolverTestConfig.TEST_VALUE_1.get());
+
+        // Unchanged values are not bound again.
+        ResolverTestConfig.TEST_VALUE_1.set("manual");
+        configurationResolver.resolveAndLoad();
+        assertEquals("manual", ResolverTestConfig.TEST_VALUE_1.get());
+
+        doReturn(ConfigFactory.parseString("test-value-1 = rebound")).when(configurationResolver).loadConfigFromFile(any());
+        configurationResolver.resolveAndLoad();
+        assertEquals("rebound", ResolverTestConfig.TEST_VALUE_1.get());
+
+    }
+
+    @Test
+    public void testLargeValueReload() {
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(this.createLargeMapConfig(0));
+        configurationResolver.resolveAndLoad();
+        assertEquals(2000, ResolverTestConfig.TEST_VALUE_3.get().size());
+        assertEquals("value-0", ResolverTestConfig.TEST_VALUE_3.get().get("key-0"));
+
+        // Large values are compared by fingerprint, an equal list is not bound again.
+        ResolverTestConfig.TEST_VALUE_3.get().put("manual", "manual");
+        doReturn(this.createLargeMapConfig(0)).when(configurationResolver).loadConfigFromFile(any());
+        configurationResolver.resolveAndLoad();
+        assertEquals("manual", ResolverTestConfig.TEST_VALUE_3.get().get("manual"));
+
+        doReturn(this.createLargeMapConfig(1)).when(configurationResolver).loadConfigFromFile(any());
+        configurationResolver.resolveAndLoad();
+        assertEquals(2000, ResolverTestConfig.TEST_VALUE_3.get().size());
+        assertEquals("value-1", ResolverTestConfig.TEST_VALUE_3.get().get("key-0"));
+
+    }
+
+    @Test
+    public void testLazyValues() {
+
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("lazy-list = [first, second]")
+                        .appendLine("lazy-foo = lazy")
+                        .appendLine("eager-int = 5")
+                        .toString()
+        );
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(config);
+        configurationResolver.registerSerializer(Foo.class, SingletonFooSerializer.getInstance());
+        configurationResolver.resolveAndLoad();
+
+        assertTrue(LazyTestConfig.LAZY_LIST.isPending());
+        assertTrue(LazyTestConfig.LAZY_FOO.isPending());
+        assertEquals(5, LazyTestConfig.EAGER_INT.get());
+
+        assertEquals(Arrays.asList("first", "second"), LazyTestConfig.LAZY_LIST.get());
+        assertFalse(LazyTestConfig.LAZY_LIST.isPending());
+        assertEquals("lazy", LazyTestConfig.LAZY_FOO.get().getFoo());
+        assertEquals(1, LazyTestConfig.LAZY_FOO.getVersion());
+
+        // A changed value replaces the pending value again.
+        doReturn(ConfigFactory.parseString("lazy-list = [third]")).when(configurationResolver).loadConfigFromFile(any());
+        configurationResolver.resolveAndLoad();
+        assertTrue(LazyTestConfig.LAZY_LIST.isPending());
+        assertFalse(LazyTestConfig.LAZY_FOO.isPending());
+        assertEquals(Collections.singletonList("third"), LazyTestConfig.LAZY_LIST.get());
+
+        // Tracking changes doesn't compute lazy values, listeners compute them on demand.
+        final List<Runnable> tasks = new ArrayList<>();
+        configurationResolver.setChangeExecutor(tasks::add);
+        final List<ConfigurationChangeEvent> events = new ArrayList<>();
+        configurationResolver.subscribe(LazyTestConfig.class, events::add);
+        doReturn(ConfigFactory.parseString("lazy-list = [fourth]")).when(configurationResolver).loadConfigFromFile(any());
+        configurationResolver.resolveAndLoad();
+        assertTrue(LazyTestConfig.LAZY_LIST.isPending());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertTrue(LazyTestConfig.LAZY_LIST.isPending());
+        final ConfigurationChangeEvent.Change change = events.get(0).getChange("lazy-list");
+        assertNotNull(change);
+        assertEquals(Collections.singletonList("third"), change.getOldValue());
+        assertEquals(Collections.singletonList("fourth"), change.getNewValue());
+        assertFalse(LazyTestConfig.LAZY_LIST.isPending());
+
+        // Empty holders of missing values have no default to write and don't fail the load.
+        LazyTestConfig.LAZY_FOO.set(null);
+        doReturn(ConfigFactory.parseString("lazy-list = [fifth]")).when(configurationResolver).loadConfigFromFile(any());
+        assertTrue(configurationResolver.load(LazyTestConfig.class).isSuccessful());
+        assertFalse(LazyTestConfig.LAZY_FOO.isPresent());
+        assertFalse(configurationResolver.getMergedConfig(LazyTestConfig.class).hasPath("lazy-foo"));
+
+    }
+
+    @Test
+    public void testListener(@TempDir final Path directory) {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final ConfigurationListener listener = new ConfigurationListener() {
+
+            @Override
+            public void onScan(final long nanos, final int configurations) {
+
+                events.add("scan:" + configurations);
+
+            }
+
+            @Override
+            public void onParsed(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final long bytes) {
+
+                events.add("parsed:" + type.getSimpleName());
+
+            }
+
+            @Override
+            public void onFieldBound(@NotNull final FieldBinding fieldBinding, final long nanos, final boolean updated) {
+
+                assertTrue(nanos >= 0);
+                events.add("bound:" + fieldBinding.getPath() + ":" + updated);
+
+            }
+
+            @Override
+            public void onSaved(@NotNull final File file, final long renderNanos, final long writeNanos, final long bytes) {
+
+                events.add("saved:" + bytes);
+
+            }
+
+            @Override
+            public void onLoaded(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final int fields,
+                                 final long bytesRead, final boolean saved) {
+
+                events.add("loaded:" + type.getSimpleName() + ":" + fields);
+
+            }
+
+        };
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(ConfigFactory.parseString("test-value-1 = listener"));
+        configurationResolver.addListener(listener);
+        // Failing listeners don't affect the load.
+        configurationResolver.addListener(new ConfigurationListener() {
+
+            @Override
+            public void onFieldBound(@NotNull final FieldBinding fieldBinding, final long nanos, final boolean updated) {
+
+                throw new IllegalStateException();
+
+            }
+
+        });
+        assertTrue(configurationResolver.resolveAndLoad(Runnable::run).isSuccessful());
+        assertEquals("listener", ResolverTestConfig.TEST_VALUE_1.get());
+        assertTrue(events.contains("scan:3"));
+        assertTrue(events.contains("parsed:ResolverTestConfig"));
+        assertTrue(events.contains("bound:test-value-1:true"));
+        assertTrue(events.contains("loaded:ResolverTestConfig:3"));
+
+        events.clear();
+        final ConfigurationResolver writingResolver = new ConfigurationResolver(this.easyReflect);
+        writingResolver.addListener(listener);
+        final File file = directory.resolve("listener.conf").toFile();
+        writingResolver.saveConfigToFile(ConfigFactory.parseString("value = 1"), file);
+        writingResolver.saveConfigToFile(ConfigFactory.parseString("value = 1"), file);
+        assertEquals(Arrays.asList("saved:" + file.length(), "saved:0"), events);
+
+    }
+
+    @Test
+    public void testChangeNotifications() {
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(
+                ConfigFactory.parseString("test-value-1 = first\ntest-value-2 = first"));
+        final List<Runnable> tasks = new ArrayList<>();
+        configurationResolver.setChangeExecutor(tasks::add);
+        final List<ConfigurationChangeEvent> events = new ArrayList<>();
+        final ConfigurationChangeListener configurationListener = events::add;
+        final List<String> holderChanges = new ArrayList<>();
+        final ChangeListener<String> holderListener = (oldValue, newValue) -> holderChanges.add(oldValue + "->" + newValue);
+        configurationResolver.subscribe(ResolverTestConfig.class, configurationListener);
+        ResolverTestConfig.TEST_VALUE_1.subscribe(holderListener);
+        try {
+            ResolverTestConfig.TEST_VALUE_1.set("initial");
+            ResolverTestConfig.TEST_VALUE_2 = "initial";
+            configurationResolver.load(ResolverTestConfig.class);
+            // All changes of one reload are delivered as a single task.
+            assertEquals(1, tasks.size());
+            assertTrue(events.isEmpty());
+            tasks.remove(0).run();
+            assertEquals(1, events.size());
+            assertEquals(ResolverTestConfig.class, events.get(0).getType());
+            assertEquals(2, events.get(0).getChanges().size());
+            assertEquals("initial", events.get(0).getChange("test-value-2").getOldValue());
+            assertEquals("first", events.get(0).getChange("test-value-2").getNewValue());
+            assertNull(events.get(0).getChange("test-value-3"));
+            assertEquals(Collections.singletonList("initial->first"), holderChanges);
+
+            events.clear();
+            holderChanges.clear();
+            doReturn(ConfigFactory.parseString("test-value-1 = second\ntest-value-2 = first")).when(configurationResolver).loadConfigFromFile(any());
+            configurationResolver.load(ResolverTestConfig.class);
+            tasks.remove(0).run();
+            assertEquals(1, events.get(0).getChanges().size());
+            assertEquals("second", events.get(0).getChange("test-value-1").getNewValue());
+            assertEquals(Collections.singletonList("first->second"), holderChanges);
+
+            // Unchanged reloads don't notify anyone.
+            configurationResolver.load(ResolverTestConfig.class);
+            assertTrue(tasks.isEmpty());
+
+            configurationResolver.unsubscribe(ResolverTestConfig.class, configurationListener);
+            ResolverTestConfig.TEST_VALUE_1.unsubscribe(holderListener);
+            doReturn(ConfigFactory.parseString("test-value-1 = third\ntest-value-2 = third")).when(configurationResolver).loadConfigFromFile(any());
+            configurationResolver.load(ResolverTestConfig.class);
+            assertTrue(tasks.isEmpty());
+            assertEquals("third", ResolverTestConfig.TEST_VALUE_1.get());
+        } finally {
+            ResolverTestConfig.TEST_VALUE_1.unsubscribe(holderListener);
+        }
+
+    }
+
+    private Config createLargeMapConfig(final int generation) {
+
+        final StringBuilder builder = new StringBuilder("test-value-3 = [");
+        for (int i = 0; i < 2000; i++)
+            builder.append("{ key = \"key-").append(i).append("\", value = \"value-").append(i == 0 ? generation : i).append("\" }\n");
+
+        return ConfigFactory.parseString(builder.append(']').toString());
+
+    }
+
+    @Test
+    public void testParallelResolve() {
+
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("test-value-1 = parallel")
+                        .appendLine("test-value-3 = not-a-list")
+                        .toString()
+        );
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(config);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final ConfigurationLoadResult result = configurationResolver.resolveAndLoad(executor);
+            assertTrue(result.getLoaded().contains(ResolverTestConfig.class));
+            assertFalse(result.isSuccessful());
+            assertEquals(1, result.getFailures().get(ResolverTestConfig.class).size());
+            assertEquals("parallel", ResolverTestConfig.TEST_VALUE_1.get());
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+    @Test
+    public void testBindingPlanFailure() throws Exception {
+
+        final ConfigurationResolver configurationResolver = spy(new ConfigurationResolver(EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(ValidTestConfig.class.getPackage().getName())
+                .build()));
+        doReturn(ConfigFactory.parseString("value = loaded")).when(configurationResolver).loadConfigFromFile(any());
+        doNothing().when(configurationResolver).saveDefaultConfiguration(any(), any());
+        doNothing().when(configurationResolver).saveConfigToFile(any(), any());
+
+        // A class without a valid binding plan is reported without aborting the other classes.
+        final ConfigurationLoadResult result = configurationResolver.resolveAndLoad(Runnable::run);
+        assertTrue(result.getLoaded().contains(ValidTestConfig.class));
+        assertFalse(result.getLoaded().contains(BrokenTestConfig.class));
+        assertEquals(1, result.getFailures().get(BrokenTestConfig.class).size());
+        assertEquals("loaded", ValidTestConfig.VALUE.get());
+
+        final ConfigurationLoadResult asyncResult = configurationResolver.resolveAndLoadAsync().get(10, TimeUnit.SECONDS);
+        assertTrue(asyncResult.getLoaded().contains(ValidTestConfig.class));
+        assertTrue(asyncResult.getFailures().containsKey(BrokenTestConfig.class));
+
+        final ConfigurationLoadResult singleResult = configurationResolver.load(BrokenTestConfig.class);
+        assertFalse(singleResult.isSuccessful());
+        assertTrue(singleResult.getLoaded().isEmpty());
+
+    }
+
+    @Test
+    public void testAsyncResolve(@TempDir final Path directory) throws Exception {
+
+        final ConfigurationResolver configurationResolver = this.createConfigurationResolver(ConfigFactory.parseString("test-value-1 = async"));
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        configurationResolver.addListener(new ConfigurationListener() {
+
+            @Override
+            public void onParsed(@NotNull final Class<?> type, @NotNull final File file, final long nanos, final long bytes) {
+
+                threads.add(Thread.currentThread());
+
+            }
+
+        });
+        final ConfigurationLoadResult result = configurationResolver.resolveAndLoadAsync().get(10, TimeUnit.SECONDS);
+        assertTrue(result.isSuccessful());
+        assertTrue(result.getLoaded().contains(ResolverTestConfig.class));
+        assertEquals("async", ResolverTestConfig.TEST_VALUE_1.get());
+        assertFalse(threads.isEmpty());
+        assertFalse(threads.contains(Thread.currentThread()));
+
+        final ConfigurationResolver writingResolver = new ConfigurationResolver(this.easyReflect);
+        final File file = directory.resolve("async.conf").toFile();
+        writingResolver.saveConfigToFileAsync(ConfigFactory.parseString("value = 1"), file).get(10, TimeUnit.SECONDS);
+        assertEquals(1, writingResolver.loadConfigFromFile(file).getInt("value"));
+
+        // Write failures complete the future exceptionally instead of only being logged.
+        final File invalidFile = new File(file, "nested.conf");
+        final ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> writingResolver.saveConfigToFileAsync(ConfigFactory.parseString("value = 1"), invalidFile, Runnable::run).get());
+        assertInstanceOf(UncheckedIOException.class, exception.getCause());
+
+    }
+
     private ConfigurationResolver createConfigurationResolver(@NotNull final Config config) {
 
         final ConfigurationResolver configurationResolver = spy(new ConfigurationResolver(this.easyReflect));
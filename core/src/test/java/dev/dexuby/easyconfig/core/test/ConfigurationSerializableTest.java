@@ -4,16 +4,19 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValue;
 import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.serialization.SerializerRegistry;
 import dev.dexuby.easyconfig.core.serialization.impl.InstantSerializer;
+import dev.dexuby.easyconfig.core.test.resolvertest.Foo;
 import dev.dexuby.easyconfig.core.test.resolvertest.ResolverTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.SingletonFooSerializer;
 import dev.dexuby.easyconfig.core.test.util.MultiLine;
 import dev.dexuby.easyreflect.EasyReflect;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.time.temporal.Temporal;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ConfigurationSerializableTest {
 
@@ -47,6 +50,23 @@ public class ConfigurationSerializableTest {
 
     }
 
+    @Test
+    public void testHierarchyLookup() {
+
+        final SerializerRegistry serializerRegistry = new SerializerRegistry();
+        serializerRegistry.put(Temporal.class, InstantSerializer.getInstance());
+        assertSame(InstantSerializer.getInstance(), serializerRegistry.find(Instant.class));
+        assertNull(serializerRegistry.get(Instant.class));
+        assertNull(serializerRegistry.find(String.class));
+
+        serializerRegistry.put(Foo.class, SingletonFooSerializer.getInstance());
+        assertSame(SingletonFooSerializer.getInstance(), serializerRegistry.find(Foo.class));
+
+        serializerRegistry.put(Instant.class, SingletonFooSerializer.getInstance());
+        assertSame(SingletonFooSerializer.getInstance(), serializerRegistry.find(Instant.class));
+
+    }
+
     @Test
     public void testAutoResolve() {
 
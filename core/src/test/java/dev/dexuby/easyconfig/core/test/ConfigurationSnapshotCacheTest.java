@@ -0,0 +1,97 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.Config;
+import dev.dexuby.easyconfig.core.ConfigurationSnapshotCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConfigurationSnapshotCacheTest {
+
+    @Test
+    public void testSnapshot(@TempDir final Path directory) throws IOException {
+
+        final Path snapshotDirectory = directory.resolve("snapshots");
+        final ConfigurationSnapshotCache snapshotCache = new ConfigurationSnapshotCache(snapshotDirectory);
+        final File file = directory.resolve("config.conf").toFile();
+        assertNull(snapshotCache.load(file));
+
+        this.write(file, "# A comment.\nexample { value = 1 }\n", 1000);
+        final Config parsed = snapshotCache.load(file);
+        assertNotNull(parsed);
+        assertEquals(1, this.countSnapshots(snapshotDirectory));
+
+        // Loaded from the snapshot, comments are kept for later writes.
+        final Config snapshot = snapshotCache.load(file);
+        assertNotNull(snapshot);
+        assertNotSame(parsed, snapshot);
+        assertEquals(parsed.root(), snapshot.root());
+        assertEquals(Collections.singletonList(" A comment."), snapshot.getValue("example").origin().comments());
+
+        // Same size and modification time, only the content hash differs.
+        this.write(file, "# A comment.\nexample { value = 2 }\n", 1000);
+        assertEquals(2, snapshotCache.load(file).getInt("example.value"));
+
+    }
+
+    @Test
+    public void testIncludesAreNotSnapshotted(@TempDir final Path directory) throws IOException {
+
+        final Path snapshotDirectory = directory.resolve("snapshots");
+        final ConfigurationSnapshotCache snapshotCache = new ConfigurationSnapshotCache(snapshotDirectory);
+        this.write(directory.resolve("included.conf").toFile(), "included = true\n", 1000);
+        final File file = directory.resolve("config.conf").toFile();
+        this.write(file, "include \"included.conf\"\nvalue = 1\n", 1000);
+
+        assertTrue(snapshotCache.load(file).getBoolean("included"));
+        assertEquals(0, this.countSnapshots(snapshotDirectory));
+
+    }
+
+    @Test
+    public void testCorruptSnapshot(@TempDir final Path directory) throws IOException {
+
+        final Path snapshotDirectory = directory.resolve("snapshots");
+        final ConfigurationSnapshotCache snapshotCache = new ConfigurationSnapshotCache(snapshotDirectory);
+        final File file = directory.resolve("config.conf").toFile();
+        this.write(file, "value = 1\n", 1000);
+        snapshotCache.load(file);
+
+        try (final Stream<Path> snapshots = Files.list(snapshotDirectory)) {
+            for (final Path snapshot : (Iterable<Path>) snapshots::iterator) {
+                final byte[] bytes = Files.readAllBytes(snapshot);
+                Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+            }
+        }
+        assertEquals(1, snapshotCache.load(file).getInt("value"));
+
+    }
+
+    private void write(final File file, final String content, final long lastModified) throws IOException {
+
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified));
+
+    }
+
+    private long countSnapshots(final Path snapshotDirectory) throws IOException {
+
+        if (!Files.isDirectory(snapshotDirectory)) return 0;
+        try (final Stream<Path> snapshots = Files.list(snapshotDirectory)) {
+            return snapshots.count();
+        }
+
+    }
+
+}
@@ -0,0 +1,142 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.ConfigurationSnapshot;
+import dev.dexuby.easyconfig.core.serialization.impl.InstantSerializer;
+import dev.dexuby.easyconfig.core.test.snapshottest.SnapshotTestConfig;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConfigurationSnapshotTest {
+
+    private final ConfigurationResolver configurationResolver = spy(new ConfigurationResolver(EasyReflect.builder()
+            .classLoader(this.getClass().getClassLoader())
+            .resolvePackage(SnapshotTestConfig.class.getPackage().getName())
+            .build()));
+    private final AtomicReference<Config> config = new AtomicReference<>();
+
+    public ConfigurationSnapshotTest() {
+
+        // Stubbed once, stubbing while the reader thread uses the resolver isn't thread-safe.
+        doAnswer(invocation -> this.config.get()).when(this.configurationResolver).loadConfigFromFile(any());
+        doNothing().when(this.configurationResolver).saveDefaultConfiguration(any(), any());
+        doNothing().when(this.configurationResolver).saveConfigToFile(any(), any());
+
+    }
+
+    @Test
+    public void testSnapshotGenerations() {
+
+        this.setConfig("host = first\nport = 1\nservers = [a, b]");
+        assertTrue(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+        final ConfigurationSnapshot first = this.configurationResolver.getSnapshot(SnapshotTestConfig.class);
+        assertNotNull(first);
+        assertEquals(1, first.getGeneration());
+        assertEquals("first", first.get("host"));
+        assertEquals(Integer.valueOf(1), first.get("port"));
+        final List<String> servers = first.get("servers");
+        assertEquals(Arrays.asList("a", "b"), servers);
+        assertThrows(UnsupportedOperationException.class, () -> servers.add("c"));
+        assertEquals("first", SnapshotTestConfig.HOST.get());
+        assertEquals(1, SnapshotTestConfig.PORT.get());
+
+        // Unchanged values are taken over, previous snapshots stay untouched.
+        this.setConfig("host = second\nport = 2\nservers = [a, b]");
+        assertTrue(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+        final ConfigurationSnapshot second = this.configurationResolver.getSnapshot(SnapshotTestConfig.class);
+        assertEquals(2, second.getGeneration());
+        assertEquals("second", second.get("host"));
+        assertSame(servers, second.get("servers"));
+        assertEquals("first", first.get("host"));
+
+        // Reloads without changes don't create a new generation.
+        assertTrue(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+        assertSame(second, this.configurationResolver.getSnapshot(SnapshotTestConfig.class));
+
+        // A single invalid value keeps the whole previous generation including the fields.
+        this.setConfig("host = third\nport = not-a-port\nservers = [a, b]");
+        assertFalse(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+        assertSame(second, this.configurationResolver.getSnapshot(SnapshotTestConfig.class));
+        assertEquals("second", SnapshotTestConfig.HOST.get());
+        assertEquals(2, SnapshotTestConfig.PORT.get());
+
+    }
+
+    @Test
+    public void testSerializerRegistration() {
+
+        this.setConfig("host = first\nport = 1\nservers = [a, b]");
+        assertTrue(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+        final ConfigurationSnapshot first = this.configurationResolver.getSnapshot(SnapshotTestConfig.class);
+
+        // Registering a serializer keeps the published snapshot and its generation.
+        this.configurationResolver.registerSerializer(Instant.class, InstantSerializer.getInstance(), true);
+        final ConfigurationSnapshot current = this.configurationResolver.getSnapshot(SnapshotTestConfig.class);
+        assertNotNull(current);
+        assertEquals(1, current.getGeneration());
+        assertEquals(first.getValues(), current.getValues());
+
+        // Only values whose decoding may have changed are decoded again.
+        assertTrue(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+        final ConfigurationSnapshot second = this.configurationResolver.getSnapshot(SnapshotTestConfig.class);
+        assertEquals(2, second.getGeneration());
+        assertSame(first.get("host"), second.get("host"));
+        assertNotSame(first.get("servers"), second.get("servers"));
+        assertEquals(first.get("servers"), second.<List<String>>get("servers"));
+
+    }
+
+    @Test
+    public void testConsistentReads() throws InterruptedException {
+
+        this.setConfig("host = host-0\nport = 0");
+        this.configurationResolver.load(SnapshotTestConfig.class);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger tornReads = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            while (running.get()) {
+                final ConfigurationSnapshot snapshot = this.configurationResolver.getSnapshot(SnapshotTestConfig.class);
+                if (!snapshot.get("host").equals("host-" + snapshot.<Integer>get("port")))
+                    tornReads.incrementAndGet();
+                reads.incrementAndGet();
+            }
+        });
+        reader.setUncaughtExceptionHandler((thread, throwable) -> failure.set(throwable));
+        reader.start();
+        try {
+            for (int i = 1; i <= 200; i++) {
+                this.setConfig("host = host-" + i + "\nport = " + i);
+                assertTrue(this.configurationResolver.load(SnapshotTestConfig.class).isSuccessful());
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+        assertEquals(200 + 1, this.configurationResolver.getSnapshot(SnapshotTestConfig.class).getGeneration());
+        assertNull(failure.get());
+        assertTrue(reads.get() > 0);
+        assertEquals(0, tornReads.get());
+
+    }
+
+    private void setConfig(final String content) {
+
+        this.config.set(ConfigFactory.parseString(content));
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.test.layertest.LayeredTestConfig;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConfigurationSourcesTest {
+
+    private static final String PREFIX = "easy-config-test.layered.";
+
+    @Test
+    public void testLayeredSources() {
+
+        final ConfigurationResolver configurationResolver = spy(new ConfigurationResolver(EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(LayeredTestConfig.class.getPackage().getName())
+                .build()));
+        final List<Config> savedConfigs = new ArrayList<>();
+        doReturn(ConfigFactory.parseString("host = file-host\nport = 443\nname = file-name"))
+                .when(configurationResolver).loadConfigFromFile(any());
+        doNothing().when(configurationResolver).saveDefaultConfiguration(any(), any());
+        doAnswer(invocation -> savedConfigs.add(invocation.getArgument(0)))
+                .when(configurationResolver).saveConfigToFile(any(), any());
+
+        System.setProperty(PREFIX + "host", "property-host");
+        System.setProperty(PREFIX + "port", "8080");
+        try {
+            assertTrue(configurationResolver.load(LayeredTestConfig.class).isSuccessful());
+            // System properties > file > classpath resource > field values.
+            assertEquals("property-host", LayeredTestConfig.HOST.get());
+            assertEquals(8080, LayeredTestConfig.PORT.get());
+            assertEquals("file-name", LayeredTestConfig.NAME.get());
+            assertEquals(30, LayeredTestConfig.TIMEOUT);
+            assertEquals(3, LayeredTestConfig.RETRIES.get());
+
+            // Only values missing in every layer are written to the file.
+            assertEquals(1, savedConfigs.size());
+            final Config savedConfig = savedConfigs.get(0);
+            assertEquals("file-host", savedConfig.getString("host"));
+            assertEquals(3, savedConfig.getInt("retries"));
+            assertFalse(savedConfig.hasPath("timeout"));
+
+            final Config mergedConfig = configurationResolver.getMergedConfig(LayeredTestConfig.class);
+            assertNotNull(mergedConfig);
+            assertEquals("property-host", mergedConfig.getString("host"));
+            assertEquals(30, mergedConfig.getInt("timeout"));
+            assertTrue(mergedConfig.hasPath("retries"));
+            assertSame(mergedConfig, configurationResolver.getMergedConfig(LayeredTestConfig.class));
+
+            // Removed overrides are picked up by the next reload.
+            System.clearProperty(PREFIX + "host");
+            assertTrue(configurationResolver.load(LayeredTestConfig.class).isSuccessful());
+            assertEquals("file-host", LayeredTestConfig.HOST.get());
+            assertEquals(8080, LayeredTestConfig.PORT.get());
+        } finally {
+            System.clearProperty(PREFIX + "host");
+            System.clearProperty(PREFIX + "port");
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.ConfigFactory;
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationListener;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.test.watchertest.WatcherTestConfig;
+import dev.dexuby.easyconfig.core.watch.ConfigurationWatcher;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigurationWatcherTest {
+
+    @Test
+    public void testReloadOnChange() throws Exception {
+
+        final EasyReflect easyReflect = EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(WatcherTestConfig.class.getPackage().getName())
+                .build();
+        final ConfigurationResolver configurationResolver = new ConfigurationResolver(easyReflect);
+        configurationResolver.resolveAndLoad();
+        assertEquals("initial", WatcherTestConfig.WATCHED_VALUE.get());
+
+        final File file = configurationResolver.getConfigurationBinding(WatcherTestConfig.class,
+                WatcherTestConfig.class.getAnnotation(Configuration.class)).getFile();
+        assertTrue(file.exists());
+
+        try (final ConfigurationWatcher configurationWatcher = new ConfigurationWatcher(configurationResolver, 50)) {
+            configurationWatcher.start();
+            Files.write(file.toPath(), "watched-value = changed".getBytes(StandardCharsets.UTF_8));
+
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (!"changed".equals(WatcherTestConfig.WATCHED_VALUE.get()) && System.currentTimeMillis() < deadline)
+                Thread.sleep(20);
+            assertEquals("changed", WatcherTestConfig.WATCHED_VALUE.get());
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+
+    }
+
+    @Test
+    public void testRestartAndOwnWrites() throws Exception {
+
+        final EasyReflect easyReflect = EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(WatcherTestConfig.class.getPackage().getName())
+                .build();
+        final ConfigurationResolver configurationResolver = new ConfigurationResolver(easyReflect);
+        configurationResolver.resolveAndLoad();
+        final AtomicInteger reloads = new AtomicInteger();
+        configurationResolver.addListener(new ConfigurationListener() {
+
+            @Override
+            public void onReload(final Class<?> type, final String trigger) {
+
+                reloads.incrementAndGet();
+
+            }
+
+        });
+
+        final File file = configurationResolver.getConfigurationBinding(WatcherTestConfig.class,
+                WatcherTestConfig.class.getAnnotation(Configuration.class)).getFile();
+
+        try (final ConfigurationWatcher configurationWatcher = new ConfigurationWatcher(configurationResolver, 50)) {
+            configurationWatcher.start();
+            configurationWatcher.close();
+            // The owned scheduler is recreated.
+            configurationWatcher.start();
+
+            // Files written by the resolver itself are not reloaded.
+            configurationResolver.saveConfigToFile(ConfigFactory.parseString("watched-value = saved"), file.getAbsoluteFile());
+            Thread.sleep(500);
+            assertEquals(0, reloads.get());
+
+            Files.write(file.toPath(), "watched-value = restarted".getBytes(StandardCharsets.UTF_8));
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (!"restarted".equals(WatcherTestConfig.WATCHED_VALUE.get()) && System.currentTimeMillis() < deadline)
+                Thread.sleep(20);
+            assertEquals("restarted", WatcherTestConfig.WATCHED_VALUE.get());
+            assertEquals(1, reloads.get());
+        } finally {
+            Files.deleteIfExists(file.toPath());
+            WatcherTestConfig.WATCHED_VALUE.set("initial");
+        }
+
+    }
+
+}
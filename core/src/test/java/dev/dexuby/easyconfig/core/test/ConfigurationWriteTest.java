@@ -1,11 +1,19 @@
 package dev.dexuby.easyconfig.core.test;
 
 import com.typesafe.config.*;
+import dev.dexuby.easyconfig.core.util.FileManager;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ConfigurationWriteTest {
 
@@ -34,4 +42,30 @@ public class ConfigurationWriteTest {
 
     }
 
+    @Test
+    public void testWriteIfChanged(@TempDir final Path directory) throws IOException {
+
+        final Path file = directory.resolve("config.conf");
+        assertTrue(FileManager.writeIfChanged(file, "example = \"välue\""));
+        assertEquals("example = \"välue\"", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+        // Identical content must not touch the file.
+        final FileTime lastModified = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(file, lastModified);
+        assertFalse(FileManager.writeIfChanged(file, "example = \"välue\""));
+        assertEquals(lastModified, Files.getLastModifiedTime(file));
+
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10000; i++)
+            content.append("value-").append(i).append(" = ").append(i).append('\n');
+        assertTrue(FileManager.writeIfChanged(file, content));
+        assertEquals(content.toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+        // No temporary files are left behind.
+        try (final Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+
+    }
+
 }
@@ -0,0 +1,48 @@
+package dev.dexuby.easyconfig.core.test;
+
+import dev.dexuby.easyconfig.core.binding.FieldAccessor;
+import dev.dexuby.easyconfig.core.binding.FieldAccessors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FieldAccessorTest {
+
+    private static String staticValue = "static";
+    private static final String FINAL_VALUE = "final";
+
+    private String instanceValue = "instance";
+
+    @Test
+    public void testStaticAccess() throws ReflectiveOperationException {
+
+        final FieldAccessor accessor = FieldAccessors.of(FieldAccessorTest.class.getDeclaredField("staticValue"));
+        assertSame(accessor, FieldAccessors.of(FieldAccessorTest.class.getDeclaredField("staticValue")));
+        assertEquals("static", accessor.get(null));
+
+        accessor.set(null, "changed");
+        assertEquals("changed", staticValue);
+
+    }
+
+    @Test
+    public void testInstanceAccess() throws ReflectiveOperationException {
+
+        final FieldAccessor accessor = FieldAccessors.of(FieldAccessorTest.class.getDeclaredField("instanceValue"));
+        assertEquals("instance", accessor.get(this));
+
+        accessor.set(this, "changed");
+        assertEquals("changed", this.instanceValue);
+
+    }
+
+    @Test
+    public void testFinalAccess() throws ReflectiveOperationException {
+
+        final FieldAccessor accessor = FieldAccessors.of(FieldAccessorTest.class.getDeclaredField("FINAL_VALUE"));
+        assertEquals(FINAL_VALUE, accessor.get(null));
+        assertThrows(IllegalAccessException.class, () -> accessor.set(null, "changed"));
+
+    }
+
+}
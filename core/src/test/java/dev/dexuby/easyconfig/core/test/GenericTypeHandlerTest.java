@@ -0,0 +1,250 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.*;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.serialization.SerializerRegistry;
+import dev.dexuby.easyconfig.core.serialization.codec.*;
+import dev.dexuby.easyconfig.core.serialization.handler.ArrayGenericTypeHandler;
+import dev.dexuby.easyconfig.core.serialization.handler.CollectionGenericTypeHandler;
+import dev.dexuby.easyconfig.core.serialization.handler.MapGenericTypeHandler;
+import dev.dexuby.easyconfig.core.serialization.impl.InstantSerializer;
+import dev.dexuby.easyconfig.core.test.handlertest.HandlerTestConfig;
+import dev.dexuby.easyconfig.core.test.resolvertest.Foo;
+import dev.dexuby.easyconfig.core.test.resolvertest.SingletonFooSerializer;
+import dev.dexuby.easyconfig.core.test.util.MultiLine;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenericTypeHandlerTest {
+
+    private final SerializerRegistry serializerRegistry = new SerializerRegistry(Collections.singletonMap(Instant.class, InstantSerializer.getInstance()));
+
+    @Test
+    public void testObjectMapEncoding() throws ReflectiveOperationException {
+
+        final MapGenericTypeHandler handler = this.createMapHandler("OBJECT_MAP");
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("object-map {")
+                        .appendLine("  1 = one")
+                        .appendLine("  2 = two")
+                        .appendLine("}")
+                        .toString()
+        );
+        handler.readAndSet(config, "object-map");
+        assertEquals("one", HandlerTestConfig.OBJECT_MAP.get().get(1));
+        assertEquals("two", HandlerTestConfig.OBJECT_MAP.get().get(2));
+
+        final ConfigValue configValue = handler.toConfigValue(ConfigOriginFactory.newSimple());
+        assertEquals(ConfigValueType.OBJECT, configValue.valueType());
+        assertEquals(config.getValue("object-map"), configValue);
+
+        // Files written with the entry list format are still readable.
+        handler.readAndSet(ConfigFactory.parseString("object-map = [{ key = 3, value = three }]"), "object-map");
+        assertEquals(Collections.singletonMap(3, "three"), HandlerTestConfig.OBJECT_MAP.get());
+
+    }
+
+    @Test
+    public void testEntryListMapEncoding() throws ReflectiveOperationException {
+
+        final MapGenericTypeHandler handler = this.createMapHandler("INSTANT_MAP");
+        final Config config = ConfigFactory.parseString("instant-map = [{ key = 1693051486576, value = second }]");
+        handler.readAndSet(config, "instant-map");
+        assertEquals("second", HandlerTestConfig.INSTANT_MAP.get().get(Instant.ofEpochMilli(1693051486576L)));
+
+        final ConfigValue configValue = handler.toConfigValue(ConfigOriginFactory.newSimple());
+        assertEquals(config.getValue("instant-map"), configValue);
+
+        assertThrows(IllegalArgumentException.class, () -> this.createMapHandler("INVALID_OBJECT_MAP"));
+
+    }
+
+    @Test
+    public void testNestedTypes() throws ReflectiveOperationException {
+
+        final CollectionGenericTypeHandler handler = new CollectionGenericTypeHandler(this.serializerRegistry,
+                HandlerTestConfig.class.getField("NESTED"), List.class, HandlerTestConfig.class);
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("nested = [")
+                        .appendLine("  { first = [1693051486576, 1693051486577], second = [] }")
+                        .appendLine("  { third = [1693051486578] }")
+                        .appendLine("]")
+                        .toString()
+        );
+        handler.readAndSet(config, "nested");
+
+        final List<Map<String, List<Instant>>> nested = HandlerTestConfig.NESTED.get();
+        assertEquals(2, nested.size());
+        assertEquals(Arrays.asList(Instant.ofEpochMilli(1693051486576L), Instant.ofEpochMilli(1693051486577L)), nested.get(0).get("first"));
+        assertTrue(nested.get(0).get("second").isEmpty());
+        assertEquals(Collections.singletonList(Instant.ofEpochMilli(1693051486578L)), nested.get(1).get("third"));
+        assertEquals(config.getValue("nested"), handler.toConfigValue(ConfigOriginFactory.newSimple()));
+
+    }
+
+    @Test
+    public void testCodecCache() throws ReflectiveOperationException {
+
+        final Type type = ((ParameterizedType) HandlerTestConfig.class.getField("NESTED").getGenericType()).getActualTypeArguments()[0];
+        final ValueCodec<?> codec = this.serializerRegistry.getCodec(type, MapEncoding.OBJECT);
+        assertSame(codec, this.serializerRegistry.getCodec(type, MapEncoding.OBJECT));
+        assertNotSame(codec, this.serializerRegistry.getCodec(type, MapEncoding.ENTRY_LIST));
+
+        // Nested codecs are shared and specialized for their element type.
+        final MapCodec mapCodec = (MapCodec) ((CollectionCodec) codec).getElementCodec();
+        final CollectionCodec listCodec = (CollectionCodec) mapCodec.getValueCodec();
+        assertInstanceOf(SerializerCodec.class, listCodec.getElementCodec());
+        assertSame(mapCodec, this.serializerRegistry.getCodec(((ParameterizedType) type).getActualTypeArguments()[0], MapEncoding.OBJECT));
+
+        // Registering a serializer drops the cached codecs.
+        this.serializerRegistry.put(Foo.class, SingletonFooSerializer.getInstance());
+        assertNotSame(codec, this.serializerRegistry.getCodec(type, MapEncoding.OBJECT));
+
+    }
+
+    @Test
+    public void testNumberConversion() throws ReflectiveOperationException {
+
+        final CollectionGenericTypeHandler handler = new CollectionGenericTypeHandler(this.serializerRegistry,
+                HandlerTestConfig.class.getField("LONGS"), Set.class, HandlerTestConfig.class);
+        handler.readAndSet(ConfigFactory.parseString("longs = [1, 2, \"3\", 10000000000]"), "longs");
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L, 10000000000L)), HandlerTestConfig.LONGS);
+
+        // Numbers are never narrowed silently.
+        final ValueCodec<?> intCodec = this.serializerRegistry.getCodec(Integer.class, MapEncoding.OBJECT);
+        assertEquals(5, intCodec.decode(ConfigValueFactory.fromAnyRef(5.0)));
+        assertThrows(ConfigException.WrongType.class, () -> intCodec.decode(ConfigValueFactory.fromAnyRef(3000000000L)));
+        assertThrows(ConfigException.WrongType.class, () -> intCodec.decode(ConfigValueFactory.fromAnyRef(1.5)));
+        assertThrows(ConfigException.WrongType.class, () -> intCodec.decode(ConfigValueFactory.fromAnyRef("1.5")));
+        final ValueCodec<?> shortCodec = this.serializerRegistry.getCodec(short.class, MapEncoding.OBJECT);
+        assertEquals((short) -32768, shortCodec.decode(ConfigValueFactory.fromAnyRef(-32768)));
+        assertThrows(ConfigException.WrongType.class, () -> shortCodec.decode(ConfigValueFactory.fromAnyRef(40000)));
+        final ValueCodec<?> byteCodec = this.serializerRegistry.getCodec(Byte.class, MapEncoding.OBJECT);
+        assertThrows(ConfigException.WrongType.class, () -> byteCodec.decode(ConfigValueFactory.fromAnyRef(128)));
+        final ValueCodec<?> longCodec = this.serializerRegistry.getCodec(Long.class, MapEncoding.OBJECT);
+        assertThrows(ConfigException.WrongType.class, () -> longCodec.decode(ConfigValueFactory.fromAnyRef(1e19)));
+        final ValueCodec<?> floatCodec = this.serializerRegistry.getCodec(Float.class, MapEncoding.OBJECT);
+        assertEquals(0.5f, floatCodec.decode(ConfigValueFactory.fromAnyRef(0.5)));
+        assertThrows(ConfigException.WrongType.class, () -> floatCodec.decode(ConfigValueFactory.fromAnyRef(1e300)));
+
+    }
+
+    @Test
+    public void testPrimitiveArrays() throws ReflectiveOperationException {
+
+        final Config config = ConfigFactory.parseString(
+                MultiLine.empty()
+                        .appendLine("thresholds = [1, 10, 100, \"1000\"]")
+                        .appendLine("weights = [0.5, 1, 2.25]")
+                        .appendLine("flags = [true, false]")
+                        .appendLine("letters = [a, b]")
+                        .toString()
+        );
+
+        final ArrayGenericTypeHandler thresholdsHandler = this.createArrayHandler("THRESHOLDS", int[].class);
+        thresholdsHandler.readAndSet(config, "thresholds");
+        assertArrayEquals(new int[]{1, 10, 100, 1000}, HandlerTestConfig.THRESHOLDS);
+        assertEquals(ConfigFactory.parseString("thresholds = [1, 10, 100, 1000]").getValue("thresholds"),
+                thresholdsHandler.toConfigValue(ConfigOriginFactory.newSimple()));
+        // Every element is range checked on its own.
+        assertThrows(ConfigException.WrongType.class,
+                () -> thresholdsHandler.readAndSet(ConfigFactory.parseString("thresholds = [1, 3000000000]"), "thresholds"));
+        assertThrows(ConfigException.WrongType.class,
+                () -> thresholdsHandler.readAndSet(ConfigFactory.parseString("thresholds = [1, 2.5]"), "thresholds"));
+        final ValueCodec<?> byteArrayCodec = this.serializerRegistry.getCodec(byte[].class, MapEncoding.OBJECT);
+        assertArrayEquals(new byte[]{-128, 127}, (byte[]) byteArrayCodec.decode(ConfigValueFactory.fromIterable(Arrays.asList(-128, 127))));
+        assertThrows(ConfigException.WrongType.class, () -> byteArrayCodec.decode(ConfigValueFactory.fromIterable(Arrays.asList(1, 200))));
+
+        final ArrayGenericTypeHandler weightsHandler = this.createArrayHandler("WEIGHTS", double[].class);
+        weightsHandler.readAndSet(config, "weights");
+        assertArrayEquals(new double[]{0.5, 1, 2.25}, HandlerTestConfig.WEIGHTS.get());
+        assertEquals(config.getValue("weights"), weightsHandler.toConfigValue(ConfigOriginFactory.newSimple()));
+
+        final ArrayGenericTypeHandler flagsHandler = this.createArrayHandler("FLAGS", boolean[].class);
+        flagsHandler.readAndSet(config, "flags");
+        assertArrayEquals(new boolean[]{true, false}, HandlerTestConfig.FLAGS);
+        assertEquals(config.getValue("flags"), flagsHandler.toConfigValue(ConfigOriginFactory.newSimple()));
+
+        final ArrayGenericTypeHandler lettersHandler = this.createArrayHandler("LETTERS", char[].class);
+        lettersHandler.readAndSet(config, "letters");
+        assertArrayEquals(new char[]{'a', 'b'}, HandlerTestConfig.LETTERS);
+        assertEquals(config.getValue("letters"), lettersHandler.toConfigValue(ConfigOriginFactory.newSimple()));
+
+    }
+
+    @Test
+    public void testLargeCollections() throws ReflectiveOperationException {
+
+        final CollectionGenericTypeHandler listHandler = new CollectionGenericTypeHandler(this.serializerRegistry,
+                HandlerTestConfig.class.getField("LARGE_LIST"), ArrayList.class, HandlerTestConfig.class);
+        final CollectionGenericTypeHandler setHandler = new CollectionGenericTypeHandler(this.serializerRegistry,
+                HandlerTestConfig.class.getField("LARGE_SET"), HashSet.class, HandlerTestConfig.class);
+        final MapGenericTypeHandler mapHandler = new MapGenericTypeHandler(this.serializerRegistry,
+                HandlerTestConfig.class.getField("LARGE_MAP"), HashMap.class, HandlerTestConfig.class);
+        final CollectionGenericTypeHandler reusedHandler = new CollectionGenericTypeHandler(this.serializerRegistry,
+                HandlerTestConfig.class.getField("REUSED_LIST"), List.class, HandlerTestConfig.class);
+        final List<Integer> reused = HandlerTestConfig.REUSED_LIST.get();
+
+        // Sizes around the threshold above which bound values are only remembered by their fingerprint.
+        for (final int size : new int[]{1024, 1025, 4096, 1024}) {
+            final List<Integer> list = new ArrayList<>(size);
+            final Set<String> set = new HashSet<>(size);
+            final Map<String, Integer> map = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(i);
+                set.add("element-" + i);
+                map.put("key-" + i, i);
+            }
+            final Config config = ConfigFactory.empty()
+                    .withValue("large-list", ConfigValueFactory.fromIterable(list))
+                    .withValue("large-set", ConfigValueFactory.fromIterable(set))
+                    .withValue("large-map", ConfigValueFactory.fromMap(map))
+                    .withValue("reused-list", ConfigValueFactory.fromIterable(list));
+
+            HandlerTestConfig.LARGE_LIST = null;
+            HandlerTestConfig.LARGE_SET = null;
+            HandlerTestConfig.LARGE_MAP = null;
+            listHandler.readAndSet(config, "large-list");
+            setHandler.readAndSet(config, "large-set");
+            mapHandler.readAndSet(config, "large-map");
+            reusedHandler.readAndSet(config, "reused-list");
+
+            assertInstanceOf(ArrayList.class, HandlerTestConfig.LARGE_LIST);
+            assertEquals(list, HandlerTestConfig.LARGE_LIST);
+            assertInstanceOf(HashSet.class, HandlerTestConfig.LARGE_SET);
+            assertEquals(set, HandlerTestConfig.LARGE_SET);
+            assertInstanceOf(HashMap.class, HandlerTestConfig.LARGE_MAP);
+            assertEquals(map, HandlerTestConfig.LARGE_MAP);
+            // The default instance is cleared and refilled, also when the list shrinks.
+            assertSame(reused, HandlerTestConfig.REUSED_LIST.get());
+            assertEquals(list, reused);
+
+            assertEquals(config.getValue("large-list"), listHandler.toConfigValue(ConfigOriginFactory.newSimple()));
+            assertEquals(config.getValue("large-map"), mapHandler.toConfigValue(ConfigOriginFactory.newSimple()));
+        }
+
+    }
+
+    private ArrayGenericTypeHandler createArrayHandler(final String fieldName, final Class<?> fieldType) throws NoSuchFieldException {
+
+        return new ArrayGenericTypeHandler(this.serializerRegistry, HandlerTestConfig.class.getField(fieldName), fieldType, HandlerTestConfig.class);
+
+    }
+
+    private MapGenericTypeHandler createMapHandler(final String fieldName) throws NoSuchFieldException {
+
+        final Field field = HandlerTestConfig.class.getField(fieldName);
+        return new MapGenericTypeHandler(this.serializerRegistry, field, Map.class, HandlerTestConfig.class);
+
+    }
+
+}
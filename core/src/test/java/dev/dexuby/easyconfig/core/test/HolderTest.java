@@ -0,0 +1,116 @@
+package dev.dexuby.easyconfig.core.test;
+
+import dev.dexuby.easyconfig.core.common.ConcurrentHolder;
+import dev.dexuby.easyconfig.core.common.Holder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolderTest {
+
+    @Test
+    public void testConcurrentHolder() {
+
+        final ConcurrentHolder<String> holder = ConcurrentHolder.of("default");
+        assertEquals("default", holder.get());
+        assertEquals(0, holder.getVersion());
+
+        holder.set("first");
+        assertEquals("first", holder.get());
+        assertEquals(1, holder.getVersion());
+
+        assertFalse(holder.compareAndSet("other", "second"));
+        assertEquals(1, holder.getVersion());
+
+        final String current = holder.get();
+        assertTrue(holder.compareAndSet(current, "second"));
+        assertEquals("second", holder.get());
+        assertEquals(2, holder.getVersion());
+
+        holder.set(null);
+        assertEquals("default", holder.get());
+
+        assertThrows(NullPointerException.class, () -> ConcurrentHolder.empty().get());
+
+        // Lazy values are published with a version, computing them doesn't change it.
+        holder.setLazy(() -> "lazy");
+        assertEquals(4, holder.getVersion());
+        assertEquals("lazy", holder.get());
+        assertEquals(4, holder.getVersion());
+        assertTrue(holder.compareAndSet("lazy", "third"));
+        assertEquals(5, holder.getVersion());
+
+    }
+
+    @Test
+    public void testLazyHolder() throws Exception {
+
+        final Holder<String> holder = Holder.of("default");
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        holder.setLazy(() -> {
+            invocations.incrementAndGet();
+            return "lazy";
+        });
+        assertTrue(holder.isPending());
+        assertEquals("default", holder.getDefaultValue());
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    latch.await();
+                    return holder.get();
+                }));
+            }
+            latch.countDown();
+            for (final Future<String> future : futures)
+                assertEquals("lazy", future.get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(1, invocations.get());
+        assertFalse(holder.isPending());
+
+        // Setting a value discards a pending value.
+        holder.setLazy(() -> "discarded");
+        holder.set("set");
+        assertEquals("set", holder.get());
+
+        // Comparing and peeking never computes a pending value.
+        final AtomicInteger peeked = new AtomicInteger();
+        holder.setLazy(() -> {
+            peeked.incrementAndGet();
+            return "peeked";
+        });
+        assertNotEquals(Holder.of("default"), holder);
+        holder.hashCode();
+        assertNull(holder.peek());
+        assertTrue(holder.isPresent());
+        assertEquals(0, peeked.get());
+        assertEquals("peeked", holder.get());
+        assertEquals("peeked", holder.peek());
+
+        // A failing supplier fails every access until a new value is set.
+        final IllegalArgumentException failure = new IllegalArgumentException();
+        holder.setLazy(() -> {
+            throw failure;
+        });
+        assertSame(failure, assertThrows(IllegalArgumentException.class, holder::get));
+        assertSame(failure, assertThrows(IllegalStateException.class, holder::get).getCause());
+        assertFalse(holder.isPending());
+        holder.set("recovered");
+        assertEquals("recovered", holder.get());
+
+        assertFalse(Holder.empty().isPresent());
+        assertNull(Holder.empty().peek());
+
+    }
+
+}
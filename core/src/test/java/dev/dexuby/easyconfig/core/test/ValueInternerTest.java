@@ -0,0 +1,118 @@
+package dev.dexuby.easyconfig.core.test;
+
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.InstanceLoadResult;
+import dev.dexuby.easyconfig.core.ValueInterner;
+import dev.dexuby.easyconfig.core.test.instancetest.TenantTestConfig;
+import dev.dexuby.easyreflect.EasyReflect;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueInternerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testIntern() {
+
+        final ValueInterner valueInterner = new ValueInterner();
+        final String first = valueInterner.intern(new String("value"));
+        assertSame(first, valueInterner.intern(new String("value")));
+        final Long number = valueInterner.intern(Long.valueOf(100000L));
+        assertSame(number, valueInterner.intern(Long.valueOf(100000L)));
+
+        final ValueInterner.Report report = valueInterner.getReport();
+        assertEquals(2, report.getEntries());
+        assertEquals(4, report.getLookups());
+        assertEquals(2, report.getHits());
+        assertTrue(report.getBytesSaved() > 0);
+
+    }
+
+    @Test
+    public void testInternContents() {
+
+        final ValueInterner valueInterner = new ValueInterner();
+        final String canonical = valueInterner.intern(new String("key"));
+
+        final List<Object> list = new ArrayList<>(Arrays.asList(new String("key"), new ArrayList<>(Collections.singletonList(new String("key")))));
+        valueInterner.intern(list);
+        assertSame(canonical, list.get(0));
+        assertSame(canonical, ((List<?>) list.get(1)).get(0));
+
+        final Map<String, String> map = new HashMap<>();
+        map.put(new String("key"), new String("key"));
+        valueInterner.intern(map);
+        assertSame(canonical, map.keySet().iterator().next());
+        assertSame(canonical, map.values().iterator().next());
+
+        // Unmodifiable collections keep their elements.
+        final List<String> unmodifiable = Collections.unmodifiableList(new ArrayList<>(Collections.singletonList(new String("key"))));
+        assertSame(unmodifiable, valueInterner.intern(unmodifiable));
+
+    }
+
+    @Test
+    public void testBounds() {
+
+        final ValueInterner valueInterner = new ValueInterner(16, 2);
+        for (int i = 0; i < 1000; i++)
+            valueInterner.intern("value-" + i);
+        assertTrue(valueInterner.getReport().getEntries() <= 16);
+
+        valueInterner.clear();
+        final List<String> small = valueInterner.internImmutable(Collections.unmodifiableList(Arrays.asList("a", "b")));
+        assertSame(small, valueInterner.internImmutable(Collections.unmodifiableList(Arrays.asList("a", "b"))));
+        final List<String> large = valueInterner.internImmutable(Collections.unmodifiableList(Arrays.asList("a", "b", "c")));
+        assertNotSame(large, valueInterner.internImmutable(Collections.unmodifiableList(Arrays.asList("a", "b", "c"))));
+
+        valueInterner.clear();
+        assertEquals(0, valueInterner.getReport().getEntries());
+        assertEquals(0, valueInterner.getReport().getLookups());
+
+    }
+
+    @Test
+    public void testInstanceInterning() throws IOException {
+
+        final ConfigurationResolver configurationResolver = new ConfigurationResolver(EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(TenantTestConfig.class.getPackage().getName())
+                .build());
+        final ValueInterner valueInterner = new ValueInterner();
+        configurationResolver.setValueInterner(valueInterner);
+
+        final Map<String, File> directories = new HashMap<>();
+        directories.put("a", this.createTenant("a", "name = shared\nservers = [first, second]\nlimits { requests = 10 }"));
+        directories.put("b", this.createTenant("b", "name = other\nservers = [first, third]\nlimits { requests = 10, burst = 20 }"));
+        final InstanceLoadResult<String, TenantTestConfig> result = configurationResolver.loadInstances(TenantTestConfig.class, directories);
+        assertTrue(result.isSuccessful());
+
+        final TenantTestConfig a = result.getInstances().get("a");
+        final TenantTestConfig b = result.getInstances().get("b");
+        assertNotSame(a.servers.get(), b.servers.get());
+        assertSame(a.servers.get().get(0), b.servers.get().get(0));
+        assertSame(a.limits.keySet().iterator().next(), b.limits.keySet().stream().filter("requests"::equals).findFirst().orElse(null));
+        assertTrue(valueInterner.getReport().getHits() > 0);
+
+    }
+
+    private File createTenant(final String name, final String content) throws IOException {
+
+        final Path configDirectory = Files.createDirectories(this.directory.resolve(name).resolve("config"));
+        Files.write(configDirectory.resolve("tenant.conf"), content.getBytes(StandardCharsets.UTF_8));
+        return configDirectory.getParent().toFile();
+
+    }
+
+}
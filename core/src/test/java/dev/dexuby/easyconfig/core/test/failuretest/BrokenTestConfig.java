@@ -0,0 +1,14 @@
+package dev.dexuby.easyconfig.core.test.failuretest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+@Configuration(fileName = "broken-test.conf")
+public class BrokenTestConfig {
+
+    @SuppressWarnings("rawtypes")
+    @ConfigurationValue(path = "raw-value", description = "Raw holder without a type argument")
+    public static final Holder RAW_VALUE = Holder.of("raw");
+
+}
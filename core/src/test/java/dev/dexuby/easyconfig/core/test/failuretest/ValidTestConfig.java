@@ -0,0 +1,13 @@
+package dev.dexuby.easyconfig.core.test.failuretest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+@Configuration(fileName = "valid-test.conf")
+public class ValidTestConfig {
+
+    @ConfigurationValue(path = "value", description = "Value")
+    public static final Holder<String> VALUE = Holder.of("default");
+
+}
@@ -0,0 +1,51 @@
+package dev.dexuby.easyconfig.core.test.handlertest;
+
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+import java.time.Instant;
+import java.util.*;
+
+public class HandlerTestConfig {
+
+    @ConfigurationValue(path = "object-map", description = "Map written as object.", mapEncoding = MapEncoding.OBJECT)
+    public static final Holder<Map<Integer, String>> OBJECT_MAP = Holder.of(new HashMap<>());
+
+    @ConfigurationValue(path = "instant-map", description = "Map with keys serialized to numbers.")
+    public static final Holder<Map<Instant, String>> INSTANT_MAP = Holder.of(new HashMap<>());
+
+    @ConfigurationValue(path = "invalid-object-map", description = "Map with keys that can't be object keys.", mapEncoding = MapEncoding.OBJECT)
+    public static final Holder<Map<UUID, String>> INVALID_OBJECT_MAP = Holder.of(new HashMap<>());
+
+    @ConfigurationValue(path = "nested", description = "Nested collections and maps.", mapEncoding = MapEncoding.OBJECT)
+    public static final Holder<List<Map<String, List<Instant>>>> NESTED = Holder.of(new ArrayList<>());
+
+    @ConfigurationValue(path = "longs", description = "Numbers that fit into an int.")
+    public static Set<Long> LONGS = new HashSet<>();
+
+    @ConfigurationValue(path = "thresholds", description = "Primitive int array.")
+    public static int[] THRESHOLDS = new int[0];
+
+    @ConfigurationValue(path = "weights", description = "Primitive double array.")
+    public static final Holder<double[]> WEIGHTS = Holder.of(new double[0]);
+
+    @ConfigurationValue(path = "flags", description = "Primitive boolean array.")
+    public static boolean[] FLAGS = new boolean[0];
+
+    @ConfigurationValue(path = "letters", description = "Primitive char array.")
+    public static char[] LETTERS = new char[0];
+
+    @ConfigurationValue(path = "large-list", description = "List without default instance.")
+    public static List<Integer> LARGE_LIST = null;
+
+    @ConfigurationValue(path = "large-set", description = "Set without default instance.")
+    public static Set<String> LARGE_SET = null;
+
+    @ConfigurationValue(path = "large-map", description = "Map without default instance.", mapEncoding = MapEncoding.OBJECT)
+    public static Map<String, Integer> LARGE_MAP = null;
+
+    @ConfigurationValue(path = "reused-list", description = "List with a reused default instance.")
+    public static final Holder<List<Integer>> REUSED_LIST = Holder.of(new ArrayList<>());
+
+}
@@ -0,0 +1,29 @@
+package dev.dexuby.easyconfig.core.test.instancetest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.MapEncoding;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration(fileName = "tenant.conf", subPaths = "config")
+public class TenantTestConfig {
+
+    @ConfigurationValue(path = "name", description = "Tenant name")
+    public final Holder<String> name = Holder.of("unnamed");
+
+    @ConfigurationValue(path = "servers", description = "Servers of the tenant")
+    public final Holder<List<String>> servers = Holder.of(new ArrayList<>());
+
+    @ConfigurationValue(path = "limits", description = "Limits of the tenant", mapEncoding = MapEncoding.OBJECT)
+    public Map<String, Integer> limits = new HashMap<>();
+
+    @ConfigurationValue(path = "max-connections", description = "Maximum connections")
+    public final IntHolder maxConnections = IntHolder.of(10);
+
+}
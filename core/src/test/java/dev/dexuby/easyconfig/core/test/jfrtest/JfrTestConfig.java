@@ -0,0 +1,13 @@
+package dev.dexuby.easyconfig.core.test.jfrtest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+@Configuration(fileName = "jfr-test.conf", subPaths = {"target", "jfr-test"})
+public class JfrTestConfig {
+
+    @ConfigurationValue(path = "recorded-value", description = "Recorded value")
+    public static final Holder<String> RECORDED_VALUE = Holder.of("initial");
+
+}
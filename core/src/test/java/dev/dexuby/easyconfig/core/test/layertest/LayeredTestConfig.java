@@ -0,0 +1,26 @@
+package dev.dexuby.easyconfig.core.test.layertest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+
+@Configuration(fileName = "layered-test.conf", overridePrefix = "easy-config-test.layered", resourceFallback = true)
+public class LayeredTestConfig {
+
+    @ConfigurationValue(path = "host", description = "Host")
+    public static final Holder<String> HOST = Holder.of("localhost");
+
+    @ConfigurationValue(path = "port", description = "Port")
+    public static final Holder<Integer> PORT = Holder.of(80);
+
+    @ConfigurationValue(path = "name", description = "Name")
+    public static final Holder<String> NAME = Holder.of("default-name");
+
+    @ConfigurationValue(path = "timeout", description = "Timeout")
+    public static int TIMEOUT = 5;
+
+    @ConfigurationValue(path = "retries", description = "Retries")
+    public static final IntHolder RETRIES = IntHolder.of(3);
+
+}
@@ -0,0 +1,22 @@
+package dev.dexuby.easyconfig.core.test.processortest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+
+@Configuration(fileName = "hidden-type-test.conf", subPaths = {"target", "processor-test"})
+public class HiddenTypeTestConfig {
+
+    @ConfigurationValue(path = "visible-value", description = "Value of an accessible type")
+    public static String VISIBLE_VALUE = "visible";
+
+    @ConfigurationValue(path = "hidden-value", description = "Value of a private nested type")
+    public static HiddenValue[] HIDDEN_VALUE = new HiddenValue[0];
+
+    @ConfigurationValue(path = "private-value", description = "Private value")
+    private static int privateValue = 1;
+
+    private static final class HiddenValue {
+
+    }
+
+}
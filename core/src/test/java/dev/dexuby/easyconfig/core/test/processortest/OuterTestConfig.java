@@ -0,0 +1,17 @@
+package dev.dexuby.easyconfig.core.test.processortest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+public class OuterTestConfig {
+
+    @Configuration(fileName = "private-nested-test.conf", subPaths = {"target", "processor-test"})
+    private static class PrivateNestedConfig {
+
+        @ConfigurationValue(path = "nested-value", description = "Value of a private nested configuration")
+        public static final Holder<String> NESTED_VALUE = Holder.of("nested");
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package dev.dexuby.easyconfig.core.test.resolvertest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.ConcurrentHolder;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration(fileName = "lazy-test.conf", lazy = true)
+public class LazyTestConfig {
+
+    @ConfigurationValue(path = "lazy-list", description = "Lazy list")
+    public static final Holder<List<String>> LAZY_LIST = Holder.of(new ArrayList<>());
+
+    @ConfigurationValue(path = "lazy-foo", description = "Lazy serialized value")
+    public static final ConcurrentHolder<Foo> LAZY_FOO = ConcurrentHolder.empty();
+
+    @ConfigurationValue(path = "eager-int", description = "Primitive holders are always read eagerly")
+    public static final IntHolder EAGER_INT = IntHolder.of(1);
+
+}
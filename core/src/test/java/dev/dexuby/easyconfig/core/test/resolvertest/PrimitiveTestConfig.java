@@ -0,0 +1,25 @@
+package dev.dexuby.easyconfig.core.test.resolvertest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.BooleanHolder;
+import dev.dexuby.easyconfig.core.common.DoubleHolder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+import dev.dexuby.easyconfig.core.common.LongHolder;
+
+@Configuration(fileName = "primitive-test.conf")
+public class PrimitiveTestConfig {
+
+    @ConfigurationValue(path = "int-value", description = "Int value")
+    public static final IntHolder INT_VALUE = IntHolder.of(1);
+
+    @ConfigurationValue(path = "long-value", description = "Long value")
+    public static final LongHolder LONG_VALUE = LongHolder.of(2L);
+
+    @ConfigurationValue(path = "double-value", description = "Double value")
+    public static final DoubleHolder DOUBLE_VALUE = DoubleHolder.of(3.5D);
+
+    @ConfigurationValue(path = "boolean-value", description = "Boolean value")
+    public static final BooleanHolder BOOLEAN_VALUE = BooleanHolder.of(false);
+
+}
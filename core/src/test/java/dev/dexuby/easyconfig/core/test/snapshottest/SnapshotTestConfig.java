@@ -0,0 +1,24 @@
+package dev.dexuby.easyconfig.core.test.snapshottest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.ConcurrentHolder;
+import dev.dexuby.easyconfig.core.common.Holder;
+import dev.dexuby.easyconfig.core.common.IntHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration(fileName = "snapshot-test.conf", snapshot = true)
+public class SnapshotTestConfig {
+
+    @ConfigurationValue(path = "host", description = "Host")
+    public static final ConcurrentHolder<String> HOST = ConcurrentHolder.of("localhost");
+
+    @ConfigurationValue(path = "port", description = "Port")
+    public static final IntHolder PORT = IntHolder.of(80);
+
+    @ConfigurationValue(path = "servers", description = "Servers")
+    public static final Holder<List<String>> SERVERS = Holder.of(new ArrayList<>());
+
+}
@@ -0,0 +1,13 @@
+package dev.dexuby.easyconfig.core.test.watchertest;
+
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationValue;
+import dev.dexuby.easyconfig.core.common.Holder;
+
+@Configuration(fileName = "watcher-test.conf", subPaths = {"target", "watcher-test"})
+public class WatcherTestConfig {
+
+    @ConfigurationValue(path = "watched-value", description = "Watched value")
+    public static final Holder<String> WATCHED_VALUE = Holder.of("initial");
+
+}
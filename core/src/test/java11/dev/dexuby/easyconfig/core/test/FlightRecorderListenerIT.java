@@ -0,0 +1,95 @@
+package dev.dexuby.easyconfig.core.test;
+
+import com.typesafe.config.ConfigFactory;
+import dev.dexuby.easyconfig.core.Configuration;
+import dev.dexuby.easyconfig.core.ConfigurationResolver;
+import dev.dexuby.easyconfig.core.test.jfrtest.JfrTestConfig;
+import dev.dexuby.easyreflect.EasyReflect;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the packaged multi-release jar, the class directory only contains the Java 8 variant of the listener.
+ */
+
+public class FlightRecorderListenerIT {
+
+    private static final String LOAD_EVENT = "dev.dexuby.easyconfig.ConfigurationLoad";
+    private static final String SAVE_EVENT = "dev.dexuby.easyconfig.ConfigurationSave";
+    private static final String RELOAD_EVENT = "dev.dexuby.easyconfig.ConfigurationReload";
+
+    @Test
+    public void testEvents(@TempDir final Path directory) throws Exception {
+
+        final EasyReflect easyReflect = EasyReflect.builder()
+                .classLoader(this.getClass().getClassLoader())
+                .resolvePackage(JfrTestConfig.class.getPackage().getName())
+                .build();
+        final ConfigurationResolver configurationResolver = new ConfigurationResolver(easyReflect);
+        final File file = configurationResolver.getConfigurationBinding(JfrTestConfig.class,
+                JfrTestConfig.class.getAnnotation(Configuration.class)).getFile();
+        Files.deleteIfExists(file.toPath());
+
+        final Path dump = directory.resolve("recording.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(LOAD_EVENT);
+            recording.enable(SAVE_EVENT);
+            recording.enable(RELOAD_EVENT);
+            recording.start();
+
+            configurationResolver.resolveAndLoad();
+            assertEquals("initial", JfrTestConfig.RECORDED_VALUE.get());
+            configurationResolver.saveConfigToFile(ConfigFactory.parseString("recorded-value = saved"), file);
+            configurationResolver.reload(JfrTestConfig.class, "test");
+            assertEquals("saved", JfrTestConfig.RECORDED_VALUE.get());
+
+            recording.stop();
+            recording.dump(dump);
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+        final List<RecordedEvent> loads = filter(events, LOAD_EVENT);
+        assertEquals(2, loads.size());
+        for (final RecordedEvent load : loads) {
+            assertEquals(JfrTestConfig.class.getName(), load.getString("configuration"));
+            assertEquals(file.getAbsolutePath(), load.getString("file"));
+            assertEquals(1, load.getInt("fields"));
+        }
+        assertTrue(loads.stream().anyMatch(load -> load.getLong("size") > 0));
+
+        final List<RecordedEvent> saves = filter(events, SAVE_EVENT).stream()
+                .filter(event -> event.getLong("bytes") > 0)
+                .collect(Collectors.toList());
+        assertFalse(saves.isEmpty());
+        assertEquals(file.getAbsolutePath(), saves.get(saves.size() - 1).getString("file"));
+
+        final List<RecordedEvent> reloads = filter(events, RELOAD_EVENT);
+        assertEquals(1, reloads.size());
+        assertEquals(JfrTestConfig.class.getName(), reloads.get(0).getString("configuration"));
+        assertEquals("test", reloads.get(0).getString("trigger"));
+
+    }
+
+    private static List<RecordedEvent> filter(final List<RecordedEvent> events, final String name) {
+
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+
+    }
+
+}
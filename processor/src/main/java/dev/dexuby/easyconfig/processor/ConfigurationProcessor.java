@@ -0,0 +1,379 @@
+package dev.dexuby.easyconfig.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compile-time processor for easy-config. It writes an index of all <code>@Configuration</code> and
+ * <code>@ConfigurationSerializer</code> classes and generates a plain Java binder per configuration class so the
+ * <code>ConfigurationResolver</code> doesn't have to scan the classpath and the annotated fields at runtime. Binders
+ * access fields directly where Java allows it and through <code>static final</code> method handles otherwise. Annotation
+ * and resource names are referenced by name since the processor must not depend on the runtime library.
+ */
+
+@SupportedAnnotationTypes({
+        ConfigurationProcessor.CONFIGURATION_ANNOTATION,
+        ConfigurationProcessor.SERIALIZER_ANNOTATION
+})
+public final class ConfigurationProcessor extends AbstractProcessor {
+
+    static final String CONFIGURATION_ANNOTATION = "dev.dexuby.easyconfig.core.Configuration";
+    static final String SERIALIZER_ANNOTATION = "dev.dexuby.easyconfig.core.ConfigurationSerializer";
+    static final String VALUE_ANNOTATION = "dev.dexuby.easyconfig.core.ConfigurationValue";
+
+    // Must match ConfigurationIndex and ConfigurationBinder of the core module.
+    static final String CONFIGURATIONS_RESOURCE = "META-INF/easy-config/configurations";
+    static final String SERIALIZERS_RESOURCE = "META-INF/easy-config/serializers";
+    static final String BINDER_SUFFIX = "_EasyConfigBinder";
+
+    private final Set<String> configurations = new TreeSet<>();
+    private final Set<String> serializers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+
+        return SourceVersion.latestSupported();
+
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+
+        if (roundEnvironment.processingOver()) {
+            this.writeIndex(CONFIGURATIONS_RESOURCE, this.configurations);
+            this.writeIndex(SERIALIZERS_RESOURCE, this.serializers);
+            return false;
+        }
+
+        final TypeElement configurationAnnotation = this.processingEnv.getElementUtils().getTypeElement(CONFIGURATION_ANNOTATION);
+        if (configurationAnnotation != null) {
+            for (final TypeElement typeElement : ElementFilter.typesIn(roundEnvironment.getElementsAnnotatedWith(configurationAnnotation))) {
+                this.configurations.add(this.processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+                this.generateBinder(typeElement);
+            }
+        }
+
+        final TypeElement serializerAnnotation = this.processingEnv.getElementUtils().getTypeElement(SERIALIZER_ANNOTATION);
+        if (serializerAnnotation != null) {
+            for (final TypeElement typeElement : ElementFilter.typesIn(roundEnvironment.getElementsAnnotatedWith(serializerAnnotation)))
+                this.serializers.add(this.processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+
+        return false;
+
+    }
+
+    /**
+     * Generates the binder source of the provided configuration class.
+     *
+     * @param typeElement The configuration class.
+     */
+
+    private void generateBinder(final TypeElement typeElement) {
+
+        final String packageName = this.processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+        final String binaryName = this.processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_');
+        final String binderName = simpleName + BINDER_SUFFIX;
+        final String ownerName = typeElement.getQualifiedName().toString();
+        final boolean ownerAccessible = this.isAccessible(typeElement, packageName);
+
+        final StringBuilder handles = new StringBuilder();
+        final StringBuilder fields = new StringBuilder();
+        int index = 0;
+        for (final VariableElement field : ElementFilter.fieldsIn(typeElement.getEnclosedElements())) {
+            final AnnotationMirror valueAnnotation = this.findAnnotation(field, VALUE_ANNOTATION);
+            if (valueAnnotation == null)
+                continue;
+            if (fields.length() > 0)
+                fields.append(",\n");
+            final TypeMirror erasure = this.processingEnv.getTypeUtils().erasure(field.asType());
+            final boolean direct = ownerAccessible && !field.getModifiers().contains(Modifier.PRIVATE) && this.isAccessible(erasure, packageName);
+            fields.append("            new ConfigurationBinder.BoundField(")
+                    .append(literal(field.getSimpleName().toString())).append(", ")
+                    .append(literal(this.getAnnotationValue(valueAnnotation, "path"))).append(", ")
+                    .append(literal(this.getAnnotationValue(valueAnnotation, "description"))).append(", ")
+                    .append(direct
+                            ? this.createAccessor(ownerName, erasure.toString(), field)
+                            : this.createHandleAccessor(binderName, binaryName, field, index++, handles))
+                    .append(")");
+        }
+
+        final String source = (packageName.isEmpty() ? "" : "package " + packageName + ";\n\n") +
+                "import dev.dexuby.easyconfig.core.binding.ConfigurationBinder;\n" +
+                "import dev.dexuby.easyconfig.core.binding.FieldAccessor;\n" +
+                (handles.length() > 0 ? "import dev.dexuby.easyconfig.core.binding.FieldHandles;\n\n" +
+                        "import java.lang.invoke.MethodHandle;\n" : "\n") +
+                "import java.util.Arrays;\n" +
+                "import java.util.Collections;\n" +
+                "import java.util.List;\n\n" +
+                "/**\n" +
+                " * Generated by the easy-config-processor, do not edit.\n" +
+                " */\n\n" +
+                "public final class " + binderName + " implements ConfigurationBinder {\n\n" +
+                handles +
+                "    private static final List<ConfigurationBinder.BoundField> FIELDS = Collections.unmodifiableList(Arrays.asList(\n" +
+                fields + "\n" +
+                "    ));\n\n" +
+                "    @Override\n" +
+                "    public List<ConfigurationBinder.BoundField> getFields() {\n\n" +
+                "        return FIELDS;\n\n" +
+                "    }\n\n" +
+                "}\n";
+
+        try {
+            final JavaFileObject sourceFile = this.processingEnv.getFiler().createSourceFile(
+                    (packageName.isEmpty() ? "" : packageName + ".") + binderName, typeElement);
+            try (final Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (final IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate binder: " + ex.getMessage(), typeElement);
+        }
+
+    }
+
+    /**
+     * Creates the source of an accessor that reads and writes a field directly.
+     *
+     * @param ownerName The canonical name of the owning class.
+     * @param type      The canonical name of the erased field type.
+     * @param field     The field.
+     * @return The accessor source.
+     */
+
+    private String createAccessor(final String ownerName, final String type, final VariableElement field) {
+
+        final Set<Modifier> modifiers = field.getModifiers();
+        final String name = field.getSimpleName().toString();
+        final String receiver = modifiers.contains(Modifier.STATIC) ? ownerName : "((" + ownerName + ") target)";
+        final String setter = modifiers.contains(Modifier.FINAL)
+                ? "throw new IllegalAccessException(" + literal("Field " + name + " is final and can't be set.") + ");"
+                : receiver + "." + name + " = (" + type + ") value;";
+
+        return "new FieldAccessor() {\n\n" +
+                "                @Override\n" +
+                "                public Object get(final Object target) {\n\n" +
+                "                    return " + receiver + "." + name + ";\n\n" +
+                "                }\n\n" +
+                "                @Override\n" +
+                "                public void set(final Object target, final Object value) throws IllegalAccessException {\n\n" +
+                "                    " + setter + "\n\n" +
+                "                }\n\n" +
+                "            }";
+
+    }
+
+    /**
+     * Creates the source of an accessor for a field the binder can't name, like a private field or a field of a private
+     * nested class. The method handles are declared as <code>static final</code> fields of the binder so the JIT can
+     * inline them, the accessor is <code>null</code> if they can't be resolved at runtime.
+     *
+     * @param binderName The simple name of the binder.
+     * @param ownerName  The binary name of the owning class.
+     * @param field      The field.
+     * @param index      The index of the handles within the binder.
+     * @param handles    The handle declarations of the binder.
+     * @return The accessor source.
+     */
+
+    private String createHandleAccessor(final String binderName, final String ownerName, final VariableElement field,
+                                        final int index, final StringBuilder handles) {
+
+        final String name = field.getSimpleName().toString();
+        final boolean writable = !field.getModifiers().contains(Modifier.FINAL);
+        final String getter = "GETTER_" + index;
+        final String setter = "SETTER_" + index;
+        final String arguments = "(" + binderName + ".class, " + literal(ownerName) + ", " + literal(name) + ");\n";
+        handles.append("    private static final MethodHandle ").append(getter).append(" = FieldHandles.findGetter").append(arguments);
+        if (writable)
+            handles.append("    private static final MethodHandle ").append(setter).append(" = FieldHandles.findSetter").append(arguments);
+        handles.append('\n');
+
+        final String setterBody = writable
+                ? "                    try {\n" +
+                "                        " + setter + ".invokeExact(target, value);\n" +
+                "                    } catch (final RuntimeException | Error ex) {\n" +
+                "                        throw ex;\n" +
+                "                    } catch (final Throwable ex) {\n" +
+                "                        throw new IllegalStateException(ex);\n" +
+                "                    }\n"
+                : "                    throw new IllegalAccessException(" + literal("Field " + name + " is final and can't be set.") + ");\n";
+
+        return getter + " == null" + (writable ? " || " + setter + " == null" : "") + " ? null : new FieldAccessor() {\n\n" +
+                "                @Override\n" +
+                "                public Object get(final Object target) {\n\n" +
+                "                    try {\n" +
+                "                        return (Object) " + getter + ".invokeExact(target);\n" +
+                "                    } catch (final RuntimeException | Error ex) {\n" +
+                "                        throw ex;\n" +
+                "                    } catch (final Throwable ex) {\n" +
+                "                        throw new IllegalStateException(ex);\n" +
+                "                    }\n\n" +
+                "                }\n\n" +
+                "                @Override\n" +
+                "                public void set(final Object target, final Object value) throws IllegalAccessException {\n\n" +
+                setterBody + "\n" +
+                "                }\n\n" +
+                "            }";
+
+    }
+
+    /**
+     * Checks if the provided erased type can be named from the provided package.
+     *
+     * @param type        The erased type.
+     * @param packageName The package.
+     * @return <code>true</code> if the type is accessible, <code>false</code> otherwise.
+     */
+
+    private boolean isAccessible(final TypeMirror type, final String packageName) {
+
+        switch (type.getKind()) {
+            case ARRAY:
+                return this.isAccessible(((ArrayType) type).getComponentType(), packageName);
+            case DECLARED:
+                return this.isAccessible((TypeElement) ((DeclaredType) type).asElement(), packageName);
+            default:
+                // Primitive types.
+                return true;
+        }
+
+    }
+
+    /**
+     * Checks if the provided class and all of its enclosing classes can be named from the provided package. Binders
+     * don't extend any of them, so protected classes of other packages are inaccessible too.
+     *
+     * @param typeElement The class.
+     * @param packageName The package.
+     * @return <code>true</code> if the class is accessible, <code>false</code> otherwise.
+     */
+
+    private boolean isAccessible(final TypeElement typeElement, final String packageName) {
+
+        Element element = typeElement;
+        while (element instanceof TypeElement) {
+            final TypeElement enclosingType = (TypeElement) element;
+            if (enclosingType.getNestingKind() == NestingKind.LOCAL || enclosingType.getNestingKind() == NestingKind.ANONYMOUS)
+                return false;
+            final Set<Modifier> modifiers = enclosingType.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE))
+                return false;
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    && !this.processingEnv.getElementUtils().getPackageOf(enclosingType).getQualifiedName().contentEquals(packageName))
+                return false;
+            element = enclosingType.getEnclosingElement();
+        }
+
+        return true;
+
+    }
+
+    private AnnotationMirror findAnnotation(final Element element, final String annotationName) {
+
+        for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+                return annotationMirror;
+        }
+
+        return null;
+
+    }
+
+    private String getAnnotationValue(final AnnotationMirror annotationMirror, final String name) {
+
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name))
+                return String.valueOf(entry.getValue().getValue());
+        }
+
+        return "";
+
+    }
+
+    /**
+     * Writes an index resource, entries of a previous compilation are kept so incremental builds don't lose classes
+     * that weren't part of the current compilation.
+     *
+     * @param resource The resource name.
+     * @param entries  The entries of this compilation.
+     */
+
+    private void writeIndex(final String resource, final Set<String> entries) {
+
+        final Set<String> allEntries = new TreeSet<>(entries);
+        try {
+            final FileObject existing = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty())
+                        allEntries.add(line.trim());
+                }
+            }
+        } catch (final IOException | IllegalArgumentException ignored) {
+            // No previous index.
+        }
+
+        if (allEntries.isEmpty())
+            return;
+
+        try {
+            final FileObject fileObject = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (final Writer writer = new OutputStreamWriter(fileObject.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (final String entry : allEntries)
+                    writer.write(entry + "\n");
+            }
+        } catch (final IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + resource + ": " + ex.getMessage());
+        }
+
+    }
+
+    private static String literal(final String value) {
+
+        final StringBuilder builder = new StringBuilder("\"");
+        for (final char character : value.toCharArray()) {
+            switch (character) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        builder.append(character);
+                    }
+            }
+        }
+
+        return builder.append('"').toString();
+
+    }
+
+}